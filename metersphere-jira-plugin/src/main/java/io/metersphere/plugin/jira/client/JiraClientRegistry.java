@@ -0,0 +1,218 @@
+package io.metersphere.plugin.jira.client;
+
+import io.metersphere.plugin.jira.constants.JiraPluginConfig;
+import io.metersphere.plugin.jira.domain.JiraIntegrationConfig;
+import io.metersphere.plugin.sdk.util.MSPluginException;
+import io.metersphere.plugin.sdk.util.PluginLogUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import javax.net.ssl.SSLContext;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jira客户端注册表
+ * <p>
+ * 按集成配置(地址 + 认证信息)缓存客户端实例, 每个实例持有独立的长连接池;
+ * 多个 JiraPlatform 实例复用同一客户端, 避免每次请求重新建立 TCP/TLS 连接, 且不同租户的认证信息互不干扰.
+ */
+public class JiraClientRegistry {
+
+	private static final Map<String, JiraDefaultClient> CLIENTS = new ConcurrentHashMap<>();
+
+	/**
+	 * 已从注册表移除但仍有请求进行中的客户端, 请求结束后再关闭
+	 */
+	private static final Set<JiraDefaultClient> RETIRED_CLIENTS = ConcurrentHashMap.newKeySet();
+
+	private static final String KEY_SEPARATOR = "\n";
+
+	/**
+	 * 获取集成配置对应的客户端
+	 *
+	 * @param config 集成配置
+	 * @return 客户端
+	 */
+	public static JiraDefaultClient getClient(JiraIntegrationConfig config) {
+		if (config == null) {
+			throw new MSPluginException("Jira服务集成配置为空");
+		}
+		evictExpiredClients();
+		boolean[] created = {false};
+		JiraDefaultClient client = CLIENTS.compute(getRegistryKey(config), (key, current) -> {
+			if (current != null) {
+				// 在 compute 内刷新访问时间, 保证与回收判断互斥, 刚取出的客户端不会被回收
+				current.touch();
+				return current;
+			}
+			PoolingHttpClientConnectionManager connectionManager = createConnectionManager();
+			JiraDefaultClient newClient = new JiraDefaultClient(config, createPooledHttpClient(connectionManager), connectionManager);
+			newClient.setIntegrationKey(sha256Hex(key));
+			created[0] = true;
+			return newClient;
+		});
+		if (created[0]) {
+			// 集成对应的客户端重新创建(如服务重启后), 继续执行该集成未完成的后台任务
+			JiraOutbox.wakeUp();
+		}
+		return client;
+	}
+
+	/**
+	 * 根据集成标识获取已创建的客户端
+	 *
+	 * @param integrationKey 集成标识
+	 * @return 客户端, 不存在时返回null
+	 */
+	public static JiraDefaultClient findClient(String integrationKey) {
+		return CLIENTS.values().stream().filter(client -> StringUtils.equals(client.getIntegrationKey(), integrationKey))
+				.findFirst().orElse(null);
+	}
+
+	/**
+	 * 根据集成地址和账号获取已创建的客户端 (认证信息变更后集成标识随之变化, 用于恢复的后台任务找回客户端)
+	 *
+	 * @param address 集成地址
+	 * @param account 账号
+	 * @return 客户端, 不存在时返回null
+	 */
+	public static JiraDefaultClient findClient(String address, String account) {
+		String endpoint = StringUtils.removeEnd(address, "/");
+		return CLIENTS.values().stream().filter(client -> StringUtils.equals(StringUtils.removeEnd(client.getEndpoint(), "/"), endpoint)
+						&& StringUtils.equals(StringUtils.defaultString(client.getUserName()), StringUtils.defaultString(account)))
+				.findFirst().orElse(null);
+	}
+
+	/**
+	 * 关闭所有客户端 (插件停止时调用)
+	 */
+	public static void closeAll() {
+		CLIENTS.keySet().forEach(key -> {
+			JiraDefaultClient client = CLIENTS.remove(key);
+			if (client != null) {
+				client.close();
+			}
+		});
+		RETIRED_CLIENTS.removeIf(client -> {
+			client.close();
+			return true;
+		});
+	}
+
+	/**
+	 * 回收长时间未使用的客户端
+	 * <p>
+	 * 移除时仍有请求进行中(如长时间读取的同步流)的客户端暂不关闭, 待请求结束后的下次回收时再关闭
+	 */
+	private static void evictExpiredClients() {
+		long expireBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(JiraPluginConfig.CLIENT_EXPIRE_MINUTES);
+		CLIENTS.keySet().forEach(key -> {
+			JiraDefaultClient[] evicted = {null};
+			CLIENTS.computeIfPresent(key, (k, client) -> {
+				if (client.getLastAccessTime() < expireBefore) {
+					evicted[0] = client;
+					return null;
+				}
+				return client;
+			});
+			if (evicted[0] != null) {
+				RETIRED_CLIENTS.add(evicted[0]);
+			}
+		});
+		RETIRED_CLIENTS.removeIf(client -> {
+			if (client.isInUse() || client.getLastAccessTime() >= expireBefore) {
+				return false;
+			}
+			client.close();
+			return true;
+		});
+	}
+
+	/**
+	 * 生成注册表Key, 地址与认证信息完全一致才复用客户端
+	 *
+	 * @param config 集成配置
+	 * @return Key
+	 */
+	private static String getRegistryKey(JiraIntegrationConfig config) {
+		return String.join(KEY_SEPARATOR,
+				StringUtils.removeEnd(StringUtils.defaultString(config.getAddress()), "/"),
+				StringUtils.defaultString(config.getAuthType()),
+				StringUtils.defaultString(config.getAccount()),
+				StringUtils.defaultString(config.getPassword()),
+				StringUtils.defaultString(config.getToken()));
+	}
+
+	private static String sha256Hex(String value) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new MSPluginException(e);
+		}
+	}
+
+	/**
+	 * 创建连接池
+	 *
+	 * @return 连接池管理器
+	 */
+	private static PoolingHttpClientConnectionManager createConnectionManager() {
+		SSLContext sslContext;
+		try {
+			// 私有化部署的Jira常使用自签名证书, 与SDK默认客户端保持一致, 信任所有证书
+			sslContext = SSLContexts.custom().loadTrustMaterial(null, TrustAllStrategy.INSTANCE).build();
+		} catch (Exception e) {
+			PluginLogUtils.error(e);
+			throw new MSPluginException("初始化Jira客户端SSL配置失败: " + e.getMessage());
+		}
+		return PoolingHttpClientConnectionManagerBuilder.create()
+				.setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create()
+						.setSslContext(sslContext)
+						.setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+						.build())
+				.setMaxConnPerRoute(JiraPluginConfig.CLIENT_MAX_PER_ROUTE)
+				.setMaxConnTotal(JiraPluginConfig.CLIENT_MAX_TOTAL)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(JiraPluginConfig.CLIENT_CONNECT_TIMEOUT_MS))
+						.setSocketTimeout(Timeout.ofMilliseconds(JiraPluginConfig.CLIENT_READ_TIMEOUT_MS))
+						.setValidateAfterInactivity(TimeValue.ofSeconds(5))
+						.build())
+				.build();
+	}
+
+	/**
+	 * 创建带连接池的HttpClient
+	 *
+	 * @param connectionManager 连接池管理器
+	 * @return HttpClient
+	 */
+	private static CloseableHttpClient createPooledHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.ofMilliseconds(JiraPluginConfig.CLIENT_CONNECT_TIMEOUT_MS))
+						.setResponseTimeout(Timeout.ofMilliseconds(JiraPluginConfig.CLIENT_READ_TIMEOUT_MS))
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.ofSeconds(JiraPluginConfig.CLIENT_IDLE_EVICT_SECONDS))
+				.build();
+	}
+}
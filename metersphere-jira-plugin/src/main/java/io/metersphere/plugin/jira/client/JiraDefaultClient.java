@@ -1,9 +1,15 @@
 package io.metersphere.plugin.jira.client;
 
 
+import io.metersphere.plugin.common.utils.RangeFileDownloader;
+import io.metersphere.plugin.common.utils.TtlCache;
 import io.metersphere.plugin.jira.constants.JiraApiUrl;
 import io.metersphere.plugin.jira.constants.JiraMetadataField;
+import io.metersphere.plugin.jira.constants.JiraPluginConfig;
 import io.metersphere.plugin.jira.domain.*;
+import io.metersphere.plugin.jira.enums.JiraAttachmentFieldSupport;
+import io.metersphere.plugin.jira.utils.FileDigestUtils;
+import io.metersphere.plugin.jira.utils.StaleWhileRevalidateCache;
 import io.metersphere.plugin.platform.dto.request.SyncAllBugRequest;
 import io.metersphere.plugin.platform.spi.BaseClient;
 import io.metersphere.plugin.sdk.util.MSPluginException;
@@ -11,34 +17,116 @@ import io.metersphere.plugin.sdk.util.PluginLogUtils;
 import io.metersphere.plugin.sdk.util.PluginUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.RestTemplate;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 public class JiraDefaultClient extends BaseClient {
 
-	protected static String ENDPOINT;
+	protected String endpoint;
 
-	protected static String USER_NAME;
+	protected String userName;
 
-	protected static String PASSWD;
+	protected String passwd;
 
-	protected static String TOKEN;
+	protected String token;
 
-	protected static String AUTH_TYPE;
+	protected String authType;
+
+	/**
+	 * 连接池HttpClient, 为空时使用默认的 restTemplate
+	 */
+	private CloseableHttpClient pooledHttpClient;
+
+	/**
+	 * 连接池管理器, 用于判断是否有进行中的请求
+	 */
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	/**
+	 * 集成标识 (注册表Key的摘要, 不含认证信息明文), 用于关联持久化的后台任务
+	 */
+	private String integrationKey;
+
+	/**
+	 * 最近一次请求时间, 用于注册表回收闲置客户端
+	 */
+	private volatile long lastAccessTime = System.currentTimeMillis();
+
+	/**
+	 * 附件字段支持情况, 首次同步时检测, 之后同一集成配置不再重复检测
+	 */
+	private volatile JiraAttachmentFieldSupport attachmentFieldSupport = JiraAttachmentFieldSupport.UNKNOWN;
+
+	/**
+	 * 创建元数据缓存, 元数据包含所有字段的可选值, 体积较大且变更频率低
+	 */
+	private final TtlCache<String, Map<String, JiraCreateMetadataResponse.Field>> createMetadataCache =
+			new TtlCache<>(TimeUnit.SECONDS.toMillis(JiraPluginConfig.METADATA_CACHE_TTL_SECONDS));
+
+	/**
+	 * 并发请求线程池 (批量上传附件, 关联事务), 并发数由调用方控制
+	 */
+	private static final Executor CONCURRENT_REQUEST_EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jira-request-", 0).factory());
+
+	private static final Executor OPTION_REFRESH_EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jira-option-refresh-", 0).factory());
+
+	/**
+	 * 选项缓存 (用户, 指派人, Sprint, Epic, 链接类型), 过期后先返回旧值并在后台刷新
+	 */
+	private final StaleWhileRevalidateCache<String, List<?>> optionCache = new StaleWhileRevalidateCache<>(JiraPluginConfig.OPTION_CACHE_MAX_SIZE,
+			TimeUnit.SECONDS.toMillis(JiraPluginConfig.OPTION_CACHE_SOFT_TTL_SECONDS), TimeUnit.SECONDS.toMillis(JiraPluginConfig.OPTION_CACHE_HARD_TTL_SECONDS),
+			OPTION_REFRESH_EXECUTOR);
+
+	/**
+	 * 状态流转缓存, Key: 项目Key|缺陷类型|状态ID
+	 */
+	private final TtlCache<String, List<JiraTransitionsResponse.Transitions>> transitionCache =
+			new TtlCache<>(TimeUnit.SECONDS.toMillis(JiraPluginConfig.TRANSITION_CACHE_TTL_SECONDS));
+
+	/**
+	 * 流转反向索引缓存, Key: 项目Key|缺陷类型, Value: 目标状态ID -> TransitionID (已加载的各状态流转的并集)
+	 */
+	private final TtlCache<String, Map<String, String>> transitionIndexCache =
+			new TtlCache<>(TimeUnit.SECONDS.toMillis(JiraPluginConfig.TRANSITION_CACHE_TTL_SECONDS));
+
+	/**
+	 * 本客户端上传的附件内容摘要, Key: 附件ID, Value: SHA-256 (Jira附件接口不返回内容摘要)
+	 */
+	private final TtlCache<String, String> attachmentSha256Cache =
+			new TtlCache<>(TimeUnit.SECONDS.toMillis(JiraPluginConfig.ATTACHMENT_DIGEST_CACHE_TTL_SECONDS));
+
+	private static final String CACHE_KEY_SEPARATOR = "|";
+
+	/**
+	 * 新建缺陷的初始状态 (新建时无法获取状态ID)
+	 */
+	public static final String INITIAL_STATUS = "INITIAL";
 
 	public static final String AUTH_HEADER_TYPE = "bearer";
 
@@ -54,6 +142,20 @@ public class JiraDefaultClient extends BaseClient {
 		initConfig(jiraIntegrationConfig);
 	}
 
+	/**
+	 * 使用独立的连接池创建客户端 (由 JiraClientRegistry 统一管理)
+	 *
+	 * @param jiraIntegrationConfig 集成配置
+	 * @param pooledHttpClient      基于连接池的HttpClient
+	 * @param connectionManager     HttpClient使用的连接池管理器
+	 */
+	public JiraDefaultClient(JiraIntegrationConfig jiraIntegrationConfig, CloseableHttpClient pooledHttpClient, PoolingHttpClientConnectionManager connectionManager) {
+		initConfig(jiraIntegrationConfig);
+		this.pooledHttpClient = pooledHttpClient;
+		this.connectionManager = connectionManager;
+		this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(pooledHttpClient));
+	}
+
 	/**
 	 * 获取缺陷
 	 *
@@ -68,13 +170,68 @@ public class JiraDefaultClient extends BaseClient {
 	}
 
 	/**
-	 * 获取Jira创建元数据
+	 * 根据缺陷Key批量获取缺陷 (JQL: key in (...), POST 方式避免Key过多导致URL超长)
+	 *
+	 * @param issueKeys 缺陷Key集合
+	 * @param fields    返回字段, 为空时返回全部字段(不含评论)
+	 * @return 缺陷集合 (不存在或无权限的缺陷不会返回)
+	 */
+	public List<JiraIssue> getIssuesByKeys(List<String> issueKeys, List<String> fields) {
+		if (CollectionUtils.isEmpty(issueKeys)) {
+			return new ArrayList<>();
+		}
+		PluginLogUtils.info("getIssuesByKeys: " + issueKeys.size());
+		String jql = "key in (" + issueKeys.stream().map(key -> "\"" + key.replace("\"", "\\\"") + "\"")
+				.collect(Collectors.joining(",")) + ")";
+		List<JiraIssue> issues = new ArrayList<>();
+		int startAt = 0;
+		JiraIssueListResponse result;
+		do {
+			Map<String, Object> body = new LinkedHashMap<>();
+			body.put("jql", jql);
+			body.put("startAt", startAt);
+			body.put("maxResults", issueKeys.size());
+			body.put("fields", CollectionUtils.isEmpty(fields) ? List.of("*all", "-comment") : fields);
+			// 不校验JQL, 已删除的Key只产生警告而不是整体报错
+			body.put("validateQuery", false);
+			result = searchIssues(getBaseUrl() + "/search", HttpMethod.POST, PluginUtils.toJSONString(body));
+			if (CollectionUtils.isEmpty(result.getIssues())) {
+				break;
+			}
+			issues.addAll(result.getIssues());
+			startAt += result.getIssues().size();
+		} while (startAt < result.getTotal());
+		return issues;
+	}
+
+	/**
+	 * 获取Jira创建元数据 (按 项目Key + 缺陷类型 缓存, 并发请求共享同一次加载)
 	 *
 	 * @param projectKey 项目Key
 	 * @param issueType  缺陷类型
-	 * @return 返回元数据字段Map
+	 * @return 返回元数据字段Map (只读)
 	 */
 	public Map<String, JiraCreateMetadataResponse.Field> getCreateMetadata(String projectKey, String issueType) {
+		return createMetadataCache.get(projectKey + CACHE_KEY_SEPARATOR + issueType, () -> loadCreateMetadata(projectKey, issueType));
+	}
+
+	/**
+	 * 清除项目下所有缺陷类型的创建元数据缓存
+	 *
+	 * @param projectKey 项目Key
+	 */
+	public void invalidateCreateMetadata(String projectKey) {
+		createMetadataCache.invalidateIf(key -> key.startsWith(projectKey + CACHE_KEY_SEPARATOR));
+	}
+
+	/**
+	 * 请求Jira创建元数据
+	 *
+	 * @param projectKey 项目Key
+	 * @param issueType  缺陷类型
+	 * @return 返回元数据字段Map
+	 */
+	private Map<String, JiraCreateMetadataResponse.Field> loadCreateMetadata(String projectKey, String issueType) {
 		String url = getBaseUrl() + JiraApiUrl.CREATE_META;
 		ResponseEntity<String> response;
 		Map<String, JiraCreateMetadataResponse.Field> fields;
@@ -92,7 +249,7 @@ public class JiraDefaultClient extends BaseClient {
 		}
 		fields.remove("project");
 		fields.remove("issuetype");
-		return fields;
+		return Collections.unmodifiableMap(fields);
 	}
 
 	/**
@@ -147,6 +304,22 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回Assignable User列表
 	 */
 	public List<JiraUser> assignableUserSearch(String projectKey, String query) {
+		try {
+			return getCachedOptions("ASSIGN" + CACHE_KEY_SEPARATOR + projectKey + CACHE_KEY_SEPARATOR + StringUtils.defaultString(query), () -> loadAssignableUsers(projectKey, query));
+		} catch (Exception e) {
+			PluginLogUtils.error(e);
+			return new ArrayList<>();
+		}
+	}
+
+	/**
+	 * 查询Assignable User
+	 *
+	 * @param projectKey 项目Key
+	 * @param query      查询参数
+	 * @return 返回Assignable User列表
+	 */
+	private List<JiraUser> loadAssignableUsers(String projectKey, String query) {
 		int startAt = 0;
 		int maxResults = 30;
 		String baseUrl = getBaseUrl() + "/user/assignable/search?project={1}&maxResults=" + maxResults + "&startAt=" + startAt;
@@ -160,16 +333,11 @@ public class JiraDefaultClient extends BaseClient {
 		try {
 			response = restTemplate.exchange(url, HttpMethod.GET, getAuthHttpEntity(), String.class, projectKey);
 		} catch (Exception e) {
-			try {
-				// 兼容不同版本查询
-				if (StringUtils.isNotBlank(query)) {
-					url = baseUrl + "&query=" + query;
-				}
-				response = restTemplate.exchange(url, HttpMethod.GET, getAuthHttpEntity(), String.class, projectKey);
-			} catch (Exception ex) {
-				PluginLogUtils.error(ex);
-				return new ArrayList<>();
+			// 兼容不同版本查询, 仍失败时抛出, 失败结果不进入缓存
+			if (StringUtils.isNotBlank(query)) {
+				url = baseUrl + "&query=" + query;
 			}
+			response = restTemplate.exchange(url, HttpMethod.GET, getAuthHttpEntity(), String.class, projectKey);
 		}
 		return getResultForList(JiraUser.class, response);
 	}
@@ -182,6 +350,21 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回用户列表
 	 */
 	public List<JiraUser> allUserSearch(String query) {
+		try {
+			return getCachedOptions("USER" + CACHE_KEY_SEPARATOR + StringUtils.defaultString(query), () -> loadAllUsers(query));
+		} catch (Exception e) {
+			PluginLogUtils.error(e);
+			return new ArrayList<>();
+		}
+	}
+
+	/**
+	 * 查询所有用户
+	 *
+	 * @param query 查询参数
+	 * @return 返回用户列表
+	 */
+	private List<JiraUser> loadAllUsers(String query) {
 		int startAt = 0;
 		int maxResults = 30;
 		String baseUrl = getBaseUrl() + "/user/search?maxResults=" + maxResults + "&startAt=" + startAt;
@@ -191,14 +374,9 @@ public class JiraDefaultClient extends BaseClient {
 		try {
 			response = restTemplate.exchange(url, HttpMethod.GET, getAuthHttpEntity(), String.class);
 		} catch (Exception e) {
-			try {
-				// 兼容不同版本查询
-				url = baseUrl + "&username=" + (StringUtils.isNotBlank(query) ? query : "\"\"");
-				response = restTemplate.exchange(url, HttpMethod.GET, getAuthHttpEntity(), String.class);
-			} catch (Exception ex) {
-				PluginLogUtils.error(ex);
-				return new ArrayList<>();
-			}
+			// 兼容不同版本查询, 仍失败时抛出, 失败结果不进入缓存
+			url = baseUrl + "&username=" + (StringUtils.isNotBlank(query) ? query : "\"\"");
+			response = restTemplate.exchange(url, HttpMethod.GET, getAuthHttpEntity(), String.class);
 		}
 		return getResultForList(JiraUser.class, response);
 	}
@@ -221,6 +399,28 @@ public class JiraDefaultClient extends BaseClient {
 		return PluginUtils.parseMap(responseEntity.getBody());
 	}
 
+	/**
+	 * 按JQL分页搜索需求 (POST 方式, 排除的需求Key较多时避免URL超长)
+	 *
+	 * @param jql        JQL
+	 * @param startAt    开始位置
+	 * @param maxResults 数据大小
+	 * @return 需求列表
+	 */
+	public Map<String, Object> searchDemands(String jql, int startAt, int maxResults) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("jql", jql);
+		body.put("startAt", startAt);
+		body.put("maxResults", maxResults);
+		body.put("fields", List.of("summary", "issuetype"));
+		// 不校验JQL, 已删除的排除Key只产生警告而不是整体报错
+		body.put("validateQuery", false);
+		HttpEntity<String> requestEntity = new HttpEntity<>(PluginUtils.toJSONString(body), getAuthJsonHeader());
+		ResponseEntity<String> responseEntity = restTemplate.exchange(getBaseUrl() + "/search", HttpMethod.POST, requestEntity, String.class);
+		// noinspection unchecked
+		return PluginUtils.parseMap(responseEntity.getBody());
+	}
+
 	/**
 	 * 添加缺陷
 	 *
@@ -280,6 +480,77 @@ public class JiraDefaultClient extends BaseClient {
 		return getResultForObject(JiraTransitionsResponse.class, response).getTransitions();
 	}
 
+	/**
+	 * 获取状态下可用的Transition (按 项目Key + 缺陷类型 + 状态 缓存, 同一工作流下同一状态的流转相同)
+	 *
+	 * @param projectKey        项目Key
+	 * @param issueType         缺陷类型
+	 * @param statusId          状态ID, 新建缺陷使用 {@link #INITIAL_STATUS}
+	 * @param representIssueKey 处于该状态的缺陷Key, 缓存不存在时用于查询
+	 * @return Transition集合 (只读)
+	 */
+	public List<JiraTransitionsResponse.Transitions> getStatusTransitions(String projectKey, String issueType, String statusId, String representIssueKey) {
+		String key = String.join(CACHE_KEY_SEPARATOR, projectKey, issueType, statusId);
+		return transitionCache.get(key, () -> {
+			List<JiraTransitionsResponse.Transitions> transitions = getTransitions(representIssueKey);
+			if (transitions == null) {
+				return Collections.emptyList();
+			}
+			indexTransitions(getTransitionIndex(projectKey, issueType), transitions);
+			return Collections.unmodifiableList(transitions);
+		});
+	}
+
+	/**
+	 * 获取流转到指定状态的TransitionID
+	 * <p>
+	 * 缺陷当前状态的流转是从该状态出发的, 不包含流转到该状态自身的Transition, 因此从已加载的各状态流转的并集(反向索引)中查找;
+	 * 查找前先加载当前状态的流转, 索引随同步过程中遇到的状态逐步补全.
+	 *
+	 * @param projectKey        项目Key
+	 * @param issueType         缺陷类型
+	 * @param statusId          目标状态ID
+	 * @param representIssueKey 处于该状态的缺陷Key, 该状态的流转缓存不存在时用于查询
+	 * @return TransitionID, 索引中不存在时返回null
+	 */
+	public String getTransitionIdToStatus(String projectKey, String issueType, String statusId, String representIssueKey) {
+		getStatusTransitions(projectKey, issueType, statusId, representIssueKey);
+		return getTransitionIndex(projectKey, issueType).get(statusId);
+	}
+
+	/**
+	 * 获取流转反向索引, 索引不存在时由已缓存的各状态流转重建
+	 */
+	private Map<String, String> getTransitionIndex(String projectKey, String issueType) {
+		String prefix = projectKey + CACHE_KEY_SEPARATOR + issueType + CACHE_KEY_SEPARATOR;
+		return transitionIndexCache.get(projectKey + CACHE_KEY_SEPARATOR + issueType, () -> {
+			Map<String, String> index = new ConcurrentHashMap<>();
+			transitionCache.forEachPresent((key, transitions) -> {
+				if (key.startsWith(prefix)) {
+					indexTransitions(index, transitions);
+				}
+			});
+			return index;
+		});
+	}
+
+	private void indexTransitions(Map<String, String> index, List<JiraTransitionsResponse.Transitions> transitions) {
+		transitions.stream().filter(transition -> transition.getTo() != null && transition.getTo().getId() != null && transition.getId() != null)
+				.forEach(transition -> index.putIfAbsent(transition.getTo().getId(), transition.getId()));
+	}
+
+	/**
+	 * 清除项目缺陷类型下的Transition缓存 (工作流变更导致流转失败时调用)
+	 *
+	 * @param projectKey 项目Key
+	 * @param issueType  缺陷类型
+	 */
+	public void invalidateTransitions(String projectKey, String issueType) {
+		String prefix = projectKey + CACHE_KEY_SEPARATOR + issueType + CACHE_KEY_SEPARATOR;
+		transitionCache.invalidateIf(key -> key.startsWith(prefix));
+		transitionIndexCache.invalidate(projectKey + CACHE_KEY_SEPARATOR + issueType);
+	}
+
 	/**
 	 * 修改Transition值
 	 *
@@ -287,17 +558,27 @@ public class JiraDefaultClient extends BaseClient {
 	 * @param issueKey 缺陷Key
 	 */
 	public void doTransitions(String param, String issueKey) {
-		PluginLogUtils.info("doTransitions: " + param);
-		HttpHeaders headers = getAuthHeader();
-		headers.setContentType(MediaType.APPLICATION_JSON);
-		HttpEntity<String> requestEntity = new HttpEntity<>(param, headers);
 		try {
-			restTemplate.exchange(getBaseUrl() + "/issue/{1}/transitions", HttpMethod.POST, requestEntity, String.class, issueKey);
+			transitionIssue(param, issueKey);
 		} catch (Exception e) {
 			PluginLogUtils.error(e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * 修改Transition值, 失败时抛出异常
+	 *
+	 * @param param    参数
+	 * @param issueKey 缺陷Key
+	 */
+	public void transitionIssue(String param, String issueKey) {
+		PluginLogUtils.info("doTransitions: " + param);
+		HttpHeaders headers = getAuthHeader();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		HttpEntity<String> requestEntity = new HttpEntity<>(param, headers);
+		restTemplate.exchange(getBaseUrl() + "/issue/{1}/transitions", HttpMethod.POST, requestEntity, String.class, issueKey);
+	}
+
 	/**
 	 * 获取Sprint
 	 *
@@ -305,6 +586,16 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回Sprint
 	 */
 	public List<JiraSprint> getSprint(String query) {
+		return getCachedOptions("SPRINT" + CACHE_KEY_SEPARATOR + StringUtils.defaultString(query), () -> loadSprints(query));
+	}
+
+	/**
+	 * 获取Sprint
+	 *
+	 * @param query 查询参数
+	 * @return 返回Sprint
+	 */
+	private List<JiraSprint> loadSprints(String query) {
 		String url = getGreenhopperV1BaseUrl() + "/sprint/picker?_=" + System.currentTimeMillis();
 		if (StringUtils.isNotBlank(query)) {
 			url += "&query=" + query;
@@ -329,6 +620,16 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回Epic集合
 	 */
 	public List<JiraEpic> getEpics(String queryKey) {
+		return getCachedOptions("EPIC" + CACHE_KEY_SEPARATOR + StringUtils.defaultString(queryKey), () -> loadEpics(queryKey));
+	}
+
+	/**
+	 * 获取Epic
+	 *
+	 * @param queryKey 查询参数
+	 * @return 返回Epic集合
+	 */
+	private List<JiraEpic> loadEpics(String queryKey) {
 		ResponseEntity<String> response = restTemplate.exchange(getGreenhopperV1BaseUrl() + "/epics?maxResults=300&searchQuery={0}&hideDone=true&_=" + System.currentTimeMillis(),
 				HttpMethod.GET, getAuthHttpEntity(), String.class, queryKey);
 		List<JiraEpicResponse.EpicLists> epicLists = getResultForObject(JiraEpicResponse.class, response).getEpicLists();
@@ -351,7 +652,7 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回GreenhopperUrl
 	 */
 	public String getGreenhopperV1BaseUrl() {
-		return ENDPOINT + GREENHOPPER_V1_BASE_URL;
+		return endpoint + GREENHOPPER_V1_BASE_URL;
 	}
 
 	/**
@@ -402,9 +703,11 @@ public class JiraDefaultClient extends BaseClient {
 		PluginLogUtils.info("deleteAttachment: " + id);
 		try {
 			restTemplate.exchange(getBaseUrl() + "/attachment/" + id, HttpMethod.DELETE, getAuthHttpEntity(), String.class);
+			attachmentSha256Cache.invalidate(id);
 		} catch (HttpClientErrorException e) {
 			if (HttpStatus.NOT_FOUND.isSameCodeAs(e.getStatusCode())) {
 				// 404Jira附件未找到
+				attachmentSha256Cache.invalidate(id);
 				throw new MSPluginException(e.getMessage());
 			}
 		}
@@ -418,18 +721,223 @@ public class JiraDefaultClient extends BaseClient {
 	 * @param file     附件
 	 */
 	public void uploadAttachment(String issueKey, File file) {
+		try {
+			addAttachment(issueKey, file);
+		} catch (Exception e) {
+			PluginLogUtils.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 上传附件, 失败时抛出异常
+	 *
+	 * @param issueKey 缺陷Key
+	 * @param file     附件
+	 */
+	public void addAttachment(String issueKey, File file) {
+		postAttachments(issueKey, List.of(file));
+	}
+
+	/**
+	 * 批量上传附件, 失败时记录日志
+	 *
+	 * @param issueKey 缺陷Key
+	 * @param files    附件集合
+	 */
+	public void uploadAttachments(String issueKey, Collection<File> files) {
+		try {
+			addAttachments(issueKey, files);
+		} catch (Exception e) {
+			PluginLogUtils.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 批量上传附件, 失败时抛出异常
+	 * <p>
+	 * 附件按大小及数量上限打包成多个 multipart 请求(每个附件一个 file 部分), 多个请求并发执行;
+	 * 文件内容在写请求体时从磁盘读取, 不整体加载到内存.
+	 *
+	 * @param issueKey 缺陷Key
+	 * @param files    附件集合
+	 */
+	public void addAttachments(String issueKey, Collection<File> files) {
+		List<List<File>> batches = partitionAttachments(new ArrayList<>(files), File::length);
+		runConcurrently(batches.stream().map(batch -> (Runnable) () -> postAttachments(issueKey, batch)).toList(),
+				JiraPluginConfig.ATTACHMENT_UPLOAD_CONCURRENCY);
+	}
+
+	/**
+	 * 限制并发数执行多个请求, 全部完成后返回; 任一请求失败时抛出其异常
+	 *
+	 * @param tasks       请求集合
+	 * @param concurrency 最大并发数
+	 */
+	private void runConcurrently(List<Runnable> tasks, int concurrency) {
+		if (tasks.size() <= 1) {
+			tasks.forEach(Runnable::run);
+			return;
+		}
+		Semaphore permits = new Semaphore(Math.max(1, concurrency));
+		CompletableFuture<?>[] futures = tasks.stream().map(task -> CompletableFuture.runAsync(() -> {
+			permits.acquireUninterruptibly();
+			try {
+				task.run();
+			} finally {
+				permits.release();
+			}
+		}, CONCURRENT_REQUEST_EXECUTOR)).toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(futures).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new MSPluginException(e.getCause());
+		}
+	}
+
+	/**
+	 * 按单个请求的大小及数量上限对附件分批 (保持原有顺序)
+	 *
+	 * @param attachments 附件集合
+	 * @param sizeGetter  获取附件大小
+	 * @return 分批结果
+	 */
+	public static <T> List<List<T>> partitionAttachments(List<T> attachments, ToLongFunction<T> sizeGetter) {
+		List<List<T>> batches = new ArrayList<>();
+		List<T> batch = new ArrayList<>();
+		long batchBytes = 0;
+		for (T attachment : attachments) {
+			long size = sizeGetter.applyAsLong(attachment);
+			if (!batch.isEmpty() && (batchBytes + size > JiraPluginConfig.ATTACHMENT_BATCH_MAX_BYTES || batch.size() >= JiraPluginConfig.ATTACHMENT_BATCH_MAX_FILES)) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+				batchBytes = 0;
+			}
+			batch.add(attachment);
+			batchBytes += size;
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	/**
+	 * 在一个 multipart 请求中上传多个附件
+	 *
+	 * @param issueKey 缺陷Key
+	 * @param files    附件集合
+	 */
+	private void postAttachments(String issueKey, List<File> files) {
 		HttpHeaders authHeader = getAuthHeader();
 		authHeader.add("X-Atlassian-Token", "no-check");
 		authHeader.setContentType(MediaType.parseMediaType("multipart/form-data; charset=UTF-8"));
 
 		MultiValueMap<String, Object> paramMap = new LinkedMultiValueMap<>();
-		FileSystemResource fileResource = new FileSystemResource(file);
-		paramMap.add("file", fileResource);
+		files.forEach(file -> paramMap.add("file", new FileSystemResource(file)));
 		HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(paramMap, authHeader);
+		ResponseEntity<String> response = restTemplate.exchange(getBaseUrl() + "/issue/" + issueKey + "/attachments", HttpMethod.POST, requestEntity, String.class);
+		recordUploadedAttachments(files, response.getBody());
+	}
+
+	/**
+	 * 过滤缺陷上已存在的附件 (大小及 SHA-256 均相同)
+	 * <p>
+	 * 附件列表由调用方传入, 不再单独查询; 只有已知摘要(本客户端上传过)的附件才比较内容, 不下载远端附件计算摘要.
+	 * 计算摘要失败时按需要上传处理.
+	 *
+	 * @param attachments 缺陷当前的附件集合
+	 * @param files       待上传的附件
+	 * @return 需要上传的附件
+	 */
+	public List<File> filterUploadedAttachments(List<Map<String, Object>> attachments, Collection<File> files) {
+		if (CollectionUtils.isEmpty(files)) {
+			return new ArrayList<>();
+		}
+		// Key: 附件大小, Value: 已知的附件摘要
+		Map<Long, Set<String>> knownSha256Map = new HashMap<>();
+		if (!CollectionUtils.isEmpty(attachments)) {
+			for (Map<String, Object> attachment : attachments) {
+				String sha256 = attachment.get("id") == null ? null : attachmentSha256Cache.getIfPresent(attachment.get("id").toString());
+				if (sha256 != null && attachment.get("size") instanceof Number size) {
+					knownSha256Map.computeIfAbsent(size.longValue(), k -> new HashSet<>()).add(sha256);
+				}
+			}
+		}
+		List<File> newFiles = new ArrayList<>();
+		for (File file : files) {
+			if (isUploaded(knownSha256Map, file)) {
+				PluginLogUtils.info("attachment with the same content already exists, skip upload: " + file.getName());
+			} else {
+				newFiles.add(file);
+			}
+		}
+		return newFiles;
+	}
+
+	/**
+	 * 查询缺陷的附件列表
+	 *
+	 * @param issueKey 缺陷Key
+	 * @return 附件集合
+	 */
+	public List<Map<String, Object>> getIssueAttachments(String issueKey) {
+		ResponseEntity<String> response = restTemplate.exchange(getBaseUrl() + "/issue/{1}?fields=" + JiraMetadataField.ATTACHMENT_NAME,
+				HttpMethod.GET, getAuthHttpEntity(), String.class, issueKey);
+		JiraIssue issue = getResultForObject(JiraIssue.class, response);
+		List<Map<String, Object>> attachments = new ArrayList<>();
+		if (issue.getFields() != null && issue.getFields().get(JiraMetadataField.ATTACHMENT_NAME) instanceof List<?> list) {
+			list.forEach(attachment -> attachments.add((Map<String, Object>) attachment));
+		}
+		return attachments;
+	}
+
+	/**
+	 * 缺陷上是否已有内容相同的附件
+	 *
+	 * @param knownSha256Map 缺陷附件的已知摘要, 按大小分组
+	 * @param file           本地文件
+	 * @return 是否已存在
+	 */
+	private boolean isUploaded(Map<Long, Set<String>> knownSha256Map, File file) {
+		Set<String> knownSha256 = knownSha256Map.get(file.length());
+		if (CollectionUtils.isEmpty(knownSha256)) {
+			return false;
+		}
 		try {
-			restTemplate.exchange(getBaseUrl() + "/issue/" + issueKey + "/attachments", HttpMethod.POST, requestEntity, String.class);
+			return knownSha256.contains(FileDigestUtils.sha256Hex(file));
 		} catch (Exception e) {
-			PluginLogUtils.error(e.getMessage(), e);
+			// 无法确认附件已存在时不影响上传
+			PluginLogUtils.error(e);
+			return false;
+		}
+	}
+
+	/**
+	 * 记录上传成功的附件摘要
+	 *
+	 * @param files        上传的附件
+	 * @param responseBody 上传接口返回的附件集合
+	 */
+	private void recordUploadedAttachments(List<File> files, String responseBody) {
+		if (StringUtils.isBlank(responseBody)) {
+			return;
+		}
+		try {
+			List<Map> attachments = PluginUtils.parseArray(responseBody, Map.class);
+			Map<String, File> fileMap = files.stream().collect(Collectors.toMap(File::getName, file -> file, (a, b) -> a));
+			for (Map attachment : attachments) {
+				File file = fileMap.get(String.valueOf(attachment.get("filename")));
+				if (attachment.get("id") != null && file != null) {
+					String sha256 = FileDigestUtils.sha256Hex(file);
+					attachmentSha256Cache.get(attachment.get("id").toString(), () -> sha256);
+				}
+			}
+		} catch (Exception e) {
+			// 摘要未记录时只是不能跳过重复上传
+			PluginLogUtils.error(e);
 		}
 	}
 
@@ -474,11 +982,12 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回认证头
 	 */
 	protected HttpHeaders getAuthHeader() {
+		touch();
 		HttpHeaders headers;
-		if (StringUtils.isNotBlank(AUTH_TYPE) && StringUtils.equals(AUTH_TYPE, AUTH_HEADER_TYPE)) {
-			headers = getBearHttpHeaders(TOKEN);
+		if (StringUtils.isNotBlank(authType) && StringUtils.equals(authType, AUTH_HEADER_TYPE)) {
+			headers = getBearHttpHeaders(token);
 		} else {
-			headers = getBasicHttpHeaders(USER_NAME, PASSWD);
+			headers = getBasicHttpHeaders(userName, passwd);
 		}
 		headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip,x-gzip,deflate");
 		return headers;
@@ -501,7 +1010,7 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回请求URL
 	 */
 	public String getBaseDemandUrl() {
-		return ENDPOINT;
+		return endpoint;
 	}
 
 	/**
@@ -510,7 +1019,7 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回请求URL
 	 */
 	public String getBaseUrl() {
-		return ENDPOINT + PREFIX;
+		return endpoint + PREFIX;
 	}
 
 	/**
@@ -524,11 +1033,11 @@ public class JiraDefaultClient extends BaseClient {
 	}
 
 	/**
-	 * 初始化配置参数
+	 * 初始化配置参数 (仅在构造时调用, 客户端创建后配置不可变, 以保证多租户并发安全)
 	 *
 	 * @param config 配置
 	 */
-	public void initConfig(JiraIntegrationConfig config) {
+	protected void initConfig(JiraIntegrationConfig config) {
 		if (config == null) {
 			throw new MSPluginException("Jira服务集成配置为空");
 		}
@@ -537,11 +1046,111 @@ public class JiraDefaultClient extends BaseClient {
 		if (StringUtils.isNotBlank(url) && url.endsWith("/")) {
 			url = url.substring(0, url.length() - 1);
 		}
-		ENDPOINT = url;
-		USER_NAME = config.getAccount();
-		PASSWD = config.getPassword();
-		TOKEN = config.getToken();
-		AUTH_TYPE = config.getAuthType();
+		endpoint = url;
+		userName = config.getAccount();
+		passwd = config.getPassword();
+		token = config.getToken();
+		authType = config.getAuthType();
+	}
+
+	/**
+	 * 获取选项缓存 (可用于查看命中/未命中次数)
+	 *
+	 * @return 选项缓存
+	 */
+	public StaleWhileRevalidateCache<String, List<?>> getOptionCache() {
+		return optionCache;
+	}
+
+	/**
+	 * 从选项缓存获取, 缓存值只读
+	 * <p>
+	 * 加载失败时由加载方法抛出异常, 失败结果不缓存; 已有旧值时继续返回旧值
+	 *
+	 * @param key    缓存Key
+	 * @param loader 加载方法
+	 * @return 选项集合
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> List<T> getCachedOptions(String key, Supplier<List<T>> loader) {
+		return (List<T>) optionCache.get(key, () -> Collections.unmodifiableList(loader.get()));
+	}
+
+	public String getIntegrationKey() {
+		return integrationKey;
+	}
+
+	public void setIntegrationKey(String integrationKey) {
+		this.integrationKey = integrationKey;
+	}
+
+	public JiraAttachmentFieldSupport getAttachmentFieldSupport() {
+		return attachmentFieldSupport;
+	}
+
+	public void setAttachmentFieldSupport(JiraAttachmentFieldSupport attachmentFieldSupport) {
+		this.attachmentFieldSupport = attachmentFieldSupport;
+	}
+
+	/**
+	 * 获取集成地址
+	 *
+	 * @return 集成地址
+	 */
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	/**
+	 * 获取集成账号
+	 *
+	 * @return 账号
+	 */
+	public String getUserName() {
+		return userName;
+	}
+
+	/**
+	 * 获取最近一次请求时间
+	 *
+	 * @return 时间戳
+	 */
+	public long getLastAccessTime() {
+		return lastAccessTime;
+	}
+
+	/**
+	 * 刷新最近访问时间
+	 */
+	public void touch() {
+		lastAccessTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * 是否有进行中的请求 (连接被占用或正在等待连接, 包括仍在读取响应流的请求)
+	 *
+	 * @return 是否使用中
+	 */
+	public boolean isInUse() {
+		if (connectionManager == null) {
+			return false;
+		}
+		PoolStats stats = connectionManager.getTotalStats();
+		return stats.getLeased() > 0 || stats.getPending() > 0;
+	}
+
+	/**
+	 * 关闭连接池
+	 */
+	public void close() {
+		if (pooledHttpClient == null) {
+			return;
+		}
+		try {
+			pooledHttpClient.close();
+		} catch (IOException e) {
+			PluginLogUtils.error(e);
+		}
 	}
 
 	/**
@@ -574,7 +1183,6 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 缺陷集合
 	 */
 	public JiraIssueListResponse getProjectIssues(Integer startAt, Integer maxResults, String projectKey, String issueType, SyncAllBugRequest syncRequest, String fields) {
-		ResponseEntity<String> responseEntity;
 		String url = getBaseUrl() + "/search?startAt={1}&maxResults={2}&jql=project={3}+AND+issuetype={4}";
 		if (syncRequest != null && syncRequest.getPre() != null && syncRequest.getCreateTime() != null) {
 			url = url + "+AND+created" + (syncRequest.getPre() ? "<=" : ">=") + "\"" + DateFormatUtils.format(syncRequest.getCreateTime(), "yyyy-MM-dd HH:mm") + "\"";
@@ -585,8 +1193,40 @@ public class JiraDefaultClient extends BaseClient {
 			// 字段参数默认不传的话使用*all,-comment
 			url = url + "&fields=*all,-comment";
 		}
-		responseEntity = restTemplate.exchange(url,
-				HttpMethod.GET, getAuthHttpEntity(), String.class, startAt, maxResults, projectKey, issueType);
+		return searchIssues(url, HttpMethod.GET, null, startAt, maxResults, projectKey, issueType);
+	}
+
+	/**
+	 * 获取项目中指定时间之后更新过的缺陷 (分页, 按更新时间升序)
+	 * <p>
+	 * 同步过程中缺陷可能被修改而移到结果末尾, 调用方应推进时间下限翻页(键集分页), 偏移量只用于同一分钟内的翻页
+	 *
+	 * @param startAt      同一时间下限内的偏移量
+	 * @param maxResults   每页大小
+	 * @param projectKey   项目key
+	 * @param issueType    缺陷类型
+	 * @param updatedSince 更新时间下限(毫秒, 含), JQL时间精度为分钟
+	 * @param fields       过滤字段, 为空时使用*all,-comment
+	 * @return 缺陷集合
+	 */
+	public JiraIssueListResponse getProjectIssuesUpdatedSince(Integer startAt, Integer maxResults, String projectKey, String issueType, long updatedSince, String fields) {
+		String url = getBaseUrl() + "/search?startAt={1}&maxResults={2}&jql=project={3}+AND+issuetype={4}+AND+updated>=\"{5}\"+ORDER+BY+updated+ASC,key+ASC"
+				+ "&fields=" + (StringUtils.isNotBlank(fields) ? fields : "*all,-comment");
+		return searchIssues(url, HttpMethod.GET, null, startAt, maxResults, projectKey, issueType, DateFormatUtils.format(updatedSince, "yyyy-MM-dd HH:mm"));
+	}
+
+	/**
+	 * 搜索缺陷
+	 *
+	 * @param url          请求路径
+	 * @param method       请求方法
+	 * @param body         请求体JSON (GET 请求为空)
+	 * @param uriVariables 路径参数
+	 * @return 缺陷集合
+	 */
+	private JiraIssueListResponse searchIssues(String url, HttpMethod method, String body, Object... uriVariables) {
+		HttpEntity<?> requestEntity = body == null ? getAuthHttpEntity() : new HttpEntity<>(body, getAuthJsonHeader());
+		ResponseEntity<String> responseEntity = restTemplate.exchange(url, method, requestEntity, String.class, uriVariables);
 		return getResultForObject(JiraIssueListResponse.class, responseEntity);
 	}
 
@@ -610,17 +1250,14 @@ public class JiraDefaultClient extends BaseClient {
 	}
 
 	/**
-	 * 获取项目缺陷附件 (分页)
+	 * 下载附件到文件, 中断后断点续传
 	 *
-	 * @param startAt     开始页
-	 * @param maxResults  每页大小
-	 * @param projectKey  项目key
-	 * @param issueType   缺陷类型
-	 * @param syncRequest 同步参数
-	 * @return 返回缺陷附件集合
+	 * @param url    附件地址
+	 * @param target 目标文件
+	 * @return 文件大小
 	 */
-	public JiraIssueListResponse getProjectIssuesAttachment(Integer startAt, Integer maxResults, String projectKey, String issueType, SyncAllBugRequest syncRequest) {
-		return getProjectIssues(startAt, maxResults, projectKey, issueType, syncRequest, JiraMetadataField.ATTACHMENT_NAME);
+	public long downloadAttachment(String url, Path target) {
+		return RangeFileDownloader.download(restTemplate, url, getAuthHeader(), target, JiraPluginConfig.ATTACHMENT_DOWNLOAD_MAX_ATTEMPTS);
 	}
 
 	/**
@@ -632,16 +1269,16 @@ public class JiraDefaultClient extends BaseClient {
 	 */
 	public ResponseEntity<?> proxyForGet(String path, Class<?> responseEntityClazz) {
 		PluginLogUtils.info("jira proxyForGet: " + path);
-		String endpoint = ENDPOINT;
+		String host = endpoint;
 		try {
-			// ENDPOINT 可能会带有前缀，比如 http://xxxx/jira
+			// endpoint 可能会带有前缀，比如 http://xxxx/jira
 			// 这里去掉 /jira，再拼接图片路径path
-			URI uri = new URI(ENDPOINT);
-			endpoint = uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+			URI uri = new URI(endpoint);
+			host = uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
 		} catch (URISyntaxException e) {
 			PluginLogUtils.error(e);
 		}
-		String url = endpoint + path;
+		String url = host + path;
 		validateProxyUrl(url, "/secure/attachment", "/attachment/content");
 		return restTemplate.exchange(url, HttpMethod.GET, getAuthHttpEntity(), responseEntityClazz);
 	}
@@ -690,6 +1327,15 @@ public class JiraDefaultClient extends BaseClient {
 	 * @return 返回issue-link-type集合
 	 */
 	public List<JiraIssueLinkTypeResponse.IssueLinkType> getIssueLinkType() {
+		return getCachedOptions("ISSUE_LINK_TYPE", this::loadIssueLinkTypes);
+	}
+
+	/**
+	 * 获取issue-link-type
+	 *
+	 * @return 返回issue-link-type集合
+	 */
+	private List<JiraIssueLinkTypeResponse.IssueLinkType> loadIssueLinkTypes() {
 		ResponseEntity<String> response = restTemplate.exchange(getBaseUrl() + "/issueLinkType", HttpMethod.GET, getAuthHttpEntity(), String.class);
 		List<JiraIssueLinkTypeResponse.IssueLinkType> issueLinkTypes = getResultForObject(JiraIssueLinkTypeResponse.class, response).getIssueLinkTypes();
 		if (CollectionUtils.isEmpty(issueLinkTypes)) {
@@ -704,15 +1350,28 @@ public class JiraDefaultClient extends BaseClient {
 	 * @param request link-issue请求参数
 	 */
 	public void linkIssue(JiraIssueLinkRequest request) {
-		PluginLogUtils.info("linkIssue: " + request);
+		linkIssue(PluginUtils.toJSONString(request));
+	}
+
+	/**
+	 * 关联issue
+	 *
+	 * @param body 关联请求JSON
+	 */
+	public void linkIssue(String body) {
+		PluginLogUtils.info("linkIssue: " + body);
 		HttpHeaders headers = getAuthHeader();
 		headers.setContentType(MediaType.APPLICATION_JSON);
-		HttpEntity<String> requestEntity = new HttpEntity<>(PluginUtils.toJSONString(request), headers);
+		HttpEntity<String> requestEntity = new HttpEntity<>(body, headers);
 		try {
 			restTemplate.exchange(getBaseUrl() + "/issueLink", HttpMethod.POST, requestEntity, String.class);
+		} catch (HttpStatusCodeException e) {
+			// 保留响应状态, 由调用方区分请求被拒绝与可重试的错误
+			PluginLogUtils.error(e.getMessage(), e);
+			throw e;
 		} catch (Exception e) {
 			PluginLogUtils.error(e.getMessage(), e);
-			throw new MSPluginException(e.getMessage());
+			throw new MSPluginException(e.getMessage(), e);
 		}
 	}
 
@@ -725,9 +1384,31 @@ public class JiraDefaultClient extends BaseClient {
 		PluginLogUtils.info("deleteIssueLink: " + linkId);
 		try {
 			restTemplate.exchange(getBaseUrl() + "/issueLink/" + linkId, HttpMethod.DELETE, getAuthHttpEntity(), String.class);
+		} catch (HttpStatusCodeException e) {
+			// 保留响应状态, 由调用方区分请求被拒绝与可重试的错误
+			PluginLogUtils.error(e.getMessage(), e);
+			throw e;
 		} catch (Exception e) {
 			PluginLogUtils.error(e.getMessage(), e);
-			throw new MSPluginException(e.getMessage());
+			throw new MSPluginException(e.getMessage(), e);
 		}
 	}
+
+	/**
+	 * 批量关联issue (限制并发数)
+	 *
+	 * @param requests 关联请求集合
+	 */
+	public void linkIssues(List<JiraIssueLinkRequest> requests) {
+		runConcurrently(requests.stream().map(request -> (Runnable) () -> linkIssue(request)).toList(), JiraPluginConfig.ISSUE_LINK_CONCURRENCY);
+	}
+
+	/**
+	 * 批量取消关联issue (限制并发数)
+	 *
+	 * @param linkIds 关联ID集合
+	 */
+	public void unLinkIssues(Collection<String> linkIds) {
+		runConcurrently(linkIds.stream().map(linkId -> (Runnable) () -> unLinkIssue(linkId)).toList(), JiraPluginConfig.ISSUE_LINK_CONCURRENCY);
+	}
 }
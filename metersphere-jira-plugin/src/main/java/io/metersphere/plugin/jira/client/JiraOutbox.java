@@ -0,0 +1,496 @@
+package io.metersphere.plugin.jira.client;
+
+import io.metersphere.plugin.common.utils.BackgroundTaskExecutor;
+import io.metersphere.plugin.jira.constants.JiraPluginConfig;
+import io.metersphere.plugin.jira.domain.JiraOutboxEntry;
+import io.metersphere.plugin.jira.enums.JiraSideEffectType;
+import io.metersphere.plugin.sdk.util.PluginLogUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 缺陷后台任务的本地持久化队列 (outbox)
+ * <p>
+ * 任务执行前先追加写入日志文件 {@link JiraOutboxJournal}, 执行成功后追加完成标记; 失败按指数退避重试, 服务重启后从日志恢复.
+ * 日志只记录集成标识(摘要)及集成地址, 账号, 不落盘认证信息; 恢复的任务在该集成的客户端重新创建后继续执行,
+ * 认证信息变更后按地址和账号找回客户端, 超过等待时间仍无可用客户端的任务丢弃并记录日志.
+ * 待上传的附件以硬链接保留, 不复制文件内容; 完成的任务累计到一定数量后压缩日志, 只保留未完成的任务.
+ */
+public class JiraOutbox {
+
+	private static final String JOURNAL_FILE_NAME = "outbox.log";
+
+	private static final String FILE_DIR_NAME = "files";
+
+	private static final Object LOCK = new Object();
+
+	/**
+	 * 未完成的任务, 按提交顺序排列
+	 */
+	private static final Map<String, JiraOutboxEntry> PENDING = new LinkedHashMap<>();
+
+	/**
+	 * 执行中的任务ID
+	 */
+	private static final Set<String> IN_FLIGHT = new HashSet<>();
+
+	/**
+	 * 正在写入日志的任务ID, 写入完成前不分发, 避免完成标记先于任务记录写入
+	 */
+	private static final Set<String> WRITING = new HashSet<>();
+
+	private static JiraOutboxJournal journal;
+
+	private static int doneSinceCompact;
+
+	private static ScheduledExecutorService scheduler;
+
+	/**
+	 * 启动: 从日志恢复未完成的任务并开始定时调度 (插件启动时调用)
+	 */
+	public static void start() {
+		synchronized (LOCK) {
+			if (scheduler != null) {
+				return;
+			}
+			if (journal == null) {
+				JiraOutboxJournal newJournal = new JiraOutboxJournal(getJournalFile());
+				try {
+					PENDING.putAll(newJournal.open());
+				} catch (UncheckedIOException e) {
+					// 日志不可用时退化为不持久化的后台执行
+					PluginLogUtils.error(e);
+					return;
+				}
+				journal = newJournal;
+				if (!PENDING.isEmpty()) {
+					PluginLogUtils.info("jira outbox recovered " + PENDING.size() + " pending tasks");
+				}
+			}
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "jira-outbox");
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduler.scheduleWithFixedDelay(JiraOutbox::dispatch, JiraPluginConfig.OUTBOX_POLL_INTERVAL_MS,
+					JiraPluginConfig.OUTBOX_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 停止调度, 不再分发新的任务 (插件停止时调用, 随后等待后台线程池执行完成再调用 {@link #close()})
+	 */
+	public static void shutdown() {
+		synchronized (LOCK) {
+			if (scheduler != null) {
+				scheduler.shutdownNow();
+				scheduler = null;
+			}
+		}
+	}
+
+	/**
+	 * 压缩并关闭日志, 未完成的任务在下次启动时恢复
+	 */
+	public static void close() {
+		JiraOutboxJournal currentJournal;
+		synchronized (LOCK) {
+			currentJournal = journal;
+			if (currentJournal == null) {
+				return;
+			}
+		}
+		compact(currentJournal);
+		synchronized (LOCK) {
+			journal = null;
+			PENDING.clear();
+			IN_FLIGHT.clear();
+			WRITING.clear();
+			doneSinceCompact = 0;
+		}
+		currentJournal.close();
+	}
+
+	/**
+	 * 立即触发一次调度
+	 */
+	public static void wakeUp() {
+		ScheduledExecutorService currentScheduler = scheduler;
+		if (currentScheduler == null) {
+			return;
+		}
+		try {
+			currentScheduler.execute(JiraOutbox::dispatch);
+		} catch (RejectedExecutionException e) {
+			// 调度已停止
+		}
+	}
+
+	/**
+	 * 创建任务
+	 *
+	 * @param type     任务类型
+	 * @param issueKey 缺陷Key
+	 * @param payload  任务参数
+	 * @return 任务
+	 */
+	public static JiraOutboxEntry newEntry(JiraSideEffectType type, String issueKey, String payload) {
+		JiraOutboxEntry entry = new JiraOutboxEntry();
+		entry.setId(UUID.randomUUID().toString());
+		entry.setType(type.name());
+		entry.setIssueKey(issueKey);
+		entry.setPayload(payload);
+		entry.setCreateTime(System.currentTimeMillis());
+		return entry;
+	}
+
+	/**
+	 * 提交任务: 持久化后异步执行, 调用方无需等待
+	 *
+	 * @param client  客户端
+	 * @param entries 任务集合 (同一缺陷的任务按顺序执行)
+	 */
+	public static void submit(JiraDefaultClient client, List<JiraOutboxEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		if (StringUtils.isBlank(client.getIntegrationKey())) {
+			// 未经注册表创建的客户端无法在恢复时找回, 直接在后台执行
+			executeInBackground(client, entries);
+			return;
+		}
+		start();
+		for (JiraOutboxEntry entry : entries) {
+			entry.setIntegrationKey(client.getIntegrationKey());
+			entry.setEndpoint(client.getEndpoint());
+			entry.setAccount(client.getUserName());
+			if (StringUtils.equals(entry.getType(), JiraSideEffectType.UPLOAD_ATTACHMENT.name())) {
+				// 请求中的附件为临时文件, 保留一个硬链接供重试使用
+				entry.setPayload(linkAttachment(entry.getId(), entry.getPayload()));
+			}
+		}
+		JiraOutboxJournal currentJournal;
+		List<String> records;
+		synchronized (LOCK) {
+			currentJournal = journal;
+			if (currentJournal != null) {
+				records = entries.stream().map(entry -> JiraOutboxJournal.toRecord(entry, JiraOutboxJournal.OP_PUT)).toList();
+				entries.forEach(entry -> {
+					PENDING.put(entry.getId(), entry);
+					WRITING.add(entry.getId());
+				});
+			} else {
+				records = null;
+			}
+		}
+		if (currentJournal == null) {
+			PluginLogUtils.error("jira outbox journal is not available, execute side effects without persistence");
+			executeInBackground(client, entries);
+			return;
+		}
+		try {
+			// 组提交: 不持有状态锁, 并发提交的记录合并刷盘
+			currentJournal.append(records);
+		} catch (UncheckedIOException e) {
+			// 写入失败时任务仍在内存中执行, 只是重启后无法恢复
+			PluginLogUtils.error(e);
+		} finally {
+			synchronized (LOCK) {
+				entries.forEach(entry -> WRITING.remove(entry.getId()));
+			}
+		}
+		wakeUp();
+	}
+
+	/**
+	 * 分发到期的任务, 同一缺陷的任务放在同一个后台任务中顺序执行
+	 */
+	private static void dispatch() {
+		Map<String, List<JiraOutboxEntry>> groups = new LinkedHashMap<>();
+		Map<String, JiraDefaultClient> groupClients = new HashMap<>();
+		List<JiraOutboxEntry> orphans = new ArrayList<>();
+		synchronized (LOCK) {
+			long now = System.currentTimeMillis();
+			long orphanBefore = now - TimeUnit.HOURS.toMillis(JiraPluginConfig.OUTBOX_ORPHAN_EXPIRE_HOURS);
+			for (JiraOutboxEntry entry : PENDING.values()) {
+				if (entry.getNextAttemptTime() > now || IN_FLIGHT.contains(entry.getId()) || WRITING.contains(entry.getId())) {
+					continue;
+				}
+				String groupKey = entry.getIntegrationKey() + "|" + entry.getIssueKey();
+				JiraDefaultClient client = groupClients.computeIfAbsent(groupKey, key -> findClient(entry));
+				if (client == null) {
+					// 集成的客户端尚未创建, 等待下次使用该集成时再执行; 等待过久的任务丢弃
+					if (entry.getCreateTime() < orphanBefore) {
+						IN_FLIGHT.add(entry.getId());
+						orphans.add(entry);
+					}
+					continue;
+				}
+				IN_FLIGHT.add(entry.getId());
+				groups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(entry);
+			}
+		}
+		orphans.forEach(entry -> {
+			PluginLogUtils.error("jira outbox task " + entry.getType() + " of " + entry.getIssueKey() + " has no available client for "
+					+ entry.getEndpoint() + " after " + JiraPluginConfig.OUTBOX_ORPHAN_EXPIRE_HOURS + " hours, discard");
+			complete(entry);
+			synchronized (LOCK) {
+				IN_FLIGHT.remove(entry.getId());
+			}
+		});
+		groups.forEach((groupKey, groupEntries) -> {
+			JiraDefaultClient client = groupClients.get(groupKey);
+			try {
+				BackgroundTaskExecutor.submit("jira outbox " + groupEntries.get(0).getIssueKey(), () -> runGroup(client, groupEntries));
+			} catch (RejectedExecutionException e) {
+				synchronized (LOCK) {
+					groupEntries.forEach(entry -> IN_FLIGHT.remove(entry.getId()));
+				}
+			}
+		});
+	}
+
+	/**
+	 * 查找任务对应的客户端: 优先按集成标识, 集成认证信息变更后按集成地址和账号
+	 */
+	private static JiraDefaultClient findClient(JiraOutboxEntry entry) {
+		JiraDefaultClient client = JiraClientRegistry.findClient(entry.getIntegrationKey());
+		if (client == null && StringUtils.isNotBlank(entry.getEndpoint())) {
+			client = JiraClientRegistry.findClient(entry.getEndpoint(), entry.getAccount());
+		}
+		return client;
+	}
+
+	/**
+	 * 执行同一缺陷的任务: 附件按批合并到一个请求中上传, 其余任务按提交顺序执行
+	 */
+	private static void runGroup(JiraDefaultClient client, List<JiraOutboxEntry> entries) {
+		List<JiraOutboxEntry> uploads = new ArrayList<>();
+		List<JiraOutboxEntry> others = new ArrayList<>();
+		for (JiraOutboxEntry entry : entries) {
+			if (StringUtils.equals(entry.getType(), JiraSideEffectType.UPLOAD_ATTACHMENT.name()) && new File(entry.getPayload()).exists()) {
+				uploads.add(entry);
+			} else {
+				others.add(entry);
+			}
+		}
+		JiraDefaultClient.partitionAttachments(uploads, entry -> new File(entry.getPayload()).length())
+				.forEach(batch -> runUploadBatch(client, batch));
+		others.forEach(entry -> run(client, entry));
+	}
+
+	private static void runUploadBatch(JiraDefaultClient client, List<JiraOutboxEntry> batch) {
+		try {
+			client.addAttachments(batch.get(0).getIssueKey(), batch.stream().map(entry -> new File(entry.getPayload())).toList());
+			batch.forEach(JiraOutbox::complete);
+		} catch (Exception e) {
+			if (batch.size() > 1 && !isRetryable(e)) {
+				// 请求被拒绝时无法确定是哪个附件, 逐个上传, 只丢弃被拒绝的附件
+				batch.forEach(entry -> run(client, entry));
+			} else {
+				// 同一请求中的附件一起重试
+				batch.forEach(entry -> retryLater(entry, e));
+			}
+		} finally {
+			synchronized (LOCK) {
+				batch.forEach(entry -> IN_FLIGHT.remove(entry.getId()));
+			}
+		}
+	}
+
+	private static void run(JiraDefaultClient client, JiraOutboxEntry entry) {
+		try {
+			execute(client, entry);
+			complete(entry);
+		} catch (Exception e) {
+			retryLater(entry, e);
+		} finally {
+			synchronized (LOCK) {
+				IN_FLIGHT.remove(entry.getId());
+			}
+		}
+	}
+
+	private static void execute(JiraDefaultClient client, JiraOutboxEntry entry) {
+		switch (JiraSideEffectType.valueOf(entry.getType())) {
+			case UPLOAD_ATTACHMENT -> {
+				File file = new File(entry.getPayload());
+				if (!file.exists()) {
+					PluginLogUtils.info("jira outbox attachment not found, skip: " + entry.getPayload());
+					return;
+				}
+				client.addAttachment(entry.getIssueKey(), file);
+			}
+			case LINK_ISSUE -> client.linkIssue(entry.getPayload());
+			case TRANSITION -> {
+				try {
+					client.transitionIssue(entry.getPayload(), entry.getIssueKey());
+				} catch (RuntimeException e) {
+					// 缓存的流转可能因工作流变更失效, 清除后下次重新获取
+					client.invalidateTransitions(entry.getProjectKey(), entry.getIssueType());
+					throw e;
+				}
+			}
+		}
+	}
+
+	private static void executeInBackground(JiraDefaultClient client, List<JiraOutboxEntry> entries) {
+		try {
+			BackgroundTaskExecutor.submit("jira side effects " + entries.get(0).getIssueKey(), () -> entries.forEach(entry -> {
+				try {
+					execute(client, entry);
+				} catch (Exception e) {
+					PluginLogUtils.error(e);
+				}
+			}));
+		} catch (RejectedExecutionException e) {
+			// 缺陷已创建, 不能因后台任务失败而报错; 无法持久化时记录未执行的任务
+			PluginLogUtils.error("jira side effects of " + entries.get(0).getIssueKey() + " rejected: "
+					+ entries.stream().map(JiraOutboxEntry::getType).toList(), e);
+		}
+	}
+
+	private static void complete(JiraOutboxEntry entry) {
+		JiraOutboxJournal currentJournal;
+		String record;
+		boolean compactNow;
+		synchronized (LOCK) {
+			if (PENDING.remove(entry.getId()) == null) {
+				return;
+			}
+			currentJournal = journal;
+			record = JiraOutboxJournal.toRecord(entry, JiraOutboxJournal.OP_DONE);
+			compactNow = ++doneSinceCompact >= JiraPluginConfig.OUTBOX_COMPACT_THRESHOLD;
+			if (compactNow) {
+				doneSinceCompact = 0;
+			}
+		}
+		appendQuietly(currentJournal, record);
+		if (compactNow) {
+			compact(currentJournal);
+		}
+		if (StringUtils.equals(entry.getType(), JiraSideEffectType.UPLOAD_ATTACHMENT.name())) {
+			deleteAttachmentCopy(entry.getId());
+		}
+	}
+
+	private static void retryLater(JiraOutboxEntry entry, Exception e) {
+		int attempts = entry.getAttempts() + 1;
+		if (!isRetryable(e) || attempts >= JiraPluginConfig.OUTBOX_MAX_ATTEMPTS) {
+			PluginLogUtils.error("jira outbox task " + entry.getType() + " of " + entry.getIssueKey() + " failed after " + attempts + " attempts, discard", e);
+			complete(entry);
+			return;
+		}
+		PluginLogUtils.error("jira outbox task " + entry.getType() + " of " + entry.getIssueKey() + " failed, retry later", e);
+		long backoff = Math.min(JiraPluginConfig.OUTBOX_BACKOFF_BASE_MS * (1L << Math.min(attempts - 1, 20)), JiraPluginConfig.OUTBOX_BACKOFF_MAX_MS);
+		JiraOutboxJournal currentJournal;
+		String record;
+		synchronized (LOCK) {
+			if (!PENDING.containsKey(entry.getId())) {
+				return;
+			}
+			entry.setAttempts(attempts);
+			entry.setNextAttemptTime(System.currentTimeMillis() + backoff);
+			currentJournal = journal;
+			record = JiraOutboxJournal.toRecord(entry, JiraOutboxJournal.OP_PUT);
+		}
+		appendQuietly(currentJournal, record);
+	}
+
+	/**
+	 * 失败的任务是否可以重试: 请求被拒绝(4xx, 408/429 除外)时重试也不会成功; 按异常链查找响应状态, 没有响应状态(如网络错误)时可以重试
+	 *
+	 * @param e 任务异常
+	 * @return {true: 稍后重试, false: 直接丢弃}
+	 */
+	static boolean isRetryable(Throwable e) {
+		Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Throwable cause = e; cause != null && visited.add(cause); cause = cause.getCause()) {
+			if (cause instanceof HttpStatusCodeException statusError) {
+				HttpStatusCode status = statusError.getStatusCode();
+				return !status.is4xxClientError() || HttpStatus.TOO_MANY_REQUESTS.isSameCodeAs(status) || HttpStatus.REQUEST_TIMEOUT.isSameCodeAs(status);
+			}
+		}
+		return true;
+	}
+
+	private static void appendQuietly(JiraOutboxJournal currentJournal, String record) {
+		if (currentJournal == null) {
+			return;
+		}
+		try {
+			currentJournal.append(List.of(record));
+		} catch (UncheckedIOException e) {
+			PluginLogUtils.error(e);
+		}
+	}
+
+	/**
+	 * 压缩日志, 只保留未完成的任务 (不能持有状态锁, 快照在日志锁内获取)
+	 */
+	private static void compact(JiraOutboxJournal currentJournal) {
+		if (currentJournal == null) {
+			return;
+		}
+		currentJournal.compact(() -> {
+			synchronized (LOCK) {
+				return PENDING.values().stream().map(entry -> JiraOutboxJournal.toRecord(entry, JiraOutboxJournal.OP_PUT)).toList();
+			}
+		});
+	}
+
+	/**
+	 * 为附件创建硬链接, 请求结束后临时文件被删除时仍可重试上传
+	 *
+	 * @param entryId  任务ID
+	 * @param filePath 附件路径
+	 * @return 链接路径, 无法创建链接(如不在同一文件系统)时返回原路径, 原文件被删除后该附件不再重试
+	 */
+	private static String linkAttachment(String entryId, String filePath) {
+		Path source = Path.of(filePath);
+		Path target = getFileDir().resolve(entryId).resolve(source.getFileName());
+		try {
+			Files.createDirectories(target.getParent());
+			Files.createLink(target, source);
+			return target.toString();
+		} catch (IOException | UnsupportedOperationException e) {
+			PluginLogUtils.info("jira outbox can not link attachment " + filePath + ", use the original file: " + e.getMessage());
+			deleteAttachmentCopy(entryId);
+			return filePath;
+		}
+	}
+
+	private static void deleteAttachmentCopy(String entryId) {
+		Path dir = getFileDir().resolve(entryId);
+		if (!Files.exists(dir)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(dir)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		} catch (IOException e) {
+			PluginLogUtils.error(e);
+		}
+	}
+
+	private static Path getJournalFile() {
+		return Path.of(JiraPluginConfig.OUTBOX_DIR, JOURNAL_FILE_NAME);
+	}
+
+	private static Path getFileDir() {
+		return Path.of(JiraPluginConfig.OUTBOX_DIR, FILE_DIR_NAME);
+	}
+}
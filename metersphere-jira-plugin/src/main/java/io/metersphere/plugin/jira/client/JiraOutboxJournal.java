@@ -0,0 +1,254 @@
+package io.metersphere.plugin.jira.client;
+
+import io.metersphere.plugin.jira.domain.JiraOutboxEntry;
+import io.metersphere.plugin.sdk.util.PluginLogUtils;
+import io.metersphere.plugin.sdk.util.PluginUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * 后台任务日志文件 (追加写 + 组提交)
+ * <p>
+ * 并发追加的记录排队后由其中一个线程合并写入并统一刷盘, 其余线程等待同一次刷盘完成;
+ * 写入与刷盘只持有日志自身的锁, 不阻塞 outbox 的任务状态读写. 压缩时以未完成任务的快照重写日志.
+ */
+class JiraOutboxJournal {
+
+	static final String OP_PUT = "PUT";
+
+	static final String OP_DONE = "DONE";
+
+	private final Path file;
+
+	private final Object writeLock = new Object();
+
+	private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * 日志文件通道 (需持有 writeLock)
+	 */
+	private FileChannel channel;
+
+	JiraOutboxJournal(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * 生成日志记录
+	 *
+	 * @param entry 任务
+	 * @param op    日志操作 {@link #OP_PUT} / {@link #OP_DONE}
+	 * @return 日志记录 (单行JSON)
+	 */
+	static String toRecord(JiraOutboxEntry entry, String op) {
+		JiraOutboxEntry record = entry;
+		if (StringUtils.equals(op, OP_DONE)) {
+			record = new JiraOutboxEntry();
+			record.setId(entry.getId());
+		}
+		record.setOp(op);
+		return PluginUtils.toJSONString(record);
+	}
+
+	/**
+	 * 打开日志, 回放出未完成的任务并压缩日志
+	 *
+	 * @return 未完成的任务 (按提交顺序)
+	 */
+	LinkedHashMap<String, JiraOutboxEntry> open() {
+		LinkedHashMap<String, JiraOutboxEntry> pending = new LinkedHashMap<>();
+		synchronized (writeLock) {
+			try {
+				Files.createDirectories(file.getParent());
+				if (Files.exists(file)) {
+					for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+						JiraOutboxEntry entry = parseLine(line);
+						if (entry == null) {
+							continue;
+						}
+						if (StringUtils.equals(entry.getOp(), OP_DONE)) {
+							pending.remove(entry.getId());
+						} else {
+							pending.put(entry.getId(), entry);
+						}
+					}
+				}
+				channel = openChannel();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			List<String> records = pending.values().stream().map(entry -> toRecord(entry, OP_PUT)).toList();
+			compact(() -> records);
+		}
+		return pending;
+	}
+
+	/**
+	 * 追加记录, 刷盘后返回
+	 *
+	 * @param records 日志记录
+	 * @throws UncheckedIOException 写入失败
+	 */
+	void append(List<String> records) {
+		PendingWrite write = new PendingWrite(records, new CompletableFuture<>());
+		pendingWrites.add(write);
+		synchronized (writeLock) {
+			// 等待锁期间, 前一个线程可能已将本次记录一起写入
+			if (!write.done().isDone()) {
+				flush();
+			}
+		}
+		try {
+			write.done().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException ioException) {
+				throw ioException;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 压缩日志: 以快照重写日志文件
+	 *
+	 * @param snapshot 未完成任务的日志记录, 在持有日志锁时获取, 保证之前追加的记录都已反映在快照中
+	 */
+	void compact(Supplier<List<String>> snapshot) {
+		synchronized (writeLock) {
+			if (channel == null) {
+				return;
+			}
+			flush();
+			Path tempFile = null;
+			try {
+				tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+				try (FileChannel tempChannel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+					write(tempChannel, snapshot.get());
+					tempChannel.force(true);
+				}
+				channel.close();
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				tempFile = null;
+			} catch (IOException e) {
+				PluginLogUtils.error(e);
+			} finally {
+				deleteQuietly(tempFile);
+				reopen();
+			}
+		}
+	}
+
+	/**
+	 * 写入排队中的记录后关闭日志
+	 */
+	void close() {
+		synchronized (writeLock) {
+			flush();
+			if (channel == null) {
+				return;
+			}
+			try {
+				channel.close();
+			} catch (IOException e) {
+				PluginLogUtils.error(e);
+			}
+			channel = null;
+		}
+	}
+
+	/**
+	 * 合并写入排队中的记录并刷盘 (需持有 writeLock)
+	 */
+	private void flush() {
+		List<PendingWrite> batch = new ArrayList<>();
+		PendingWrite write;
+		while ((write = pendingWrites.poll()) != null) {
+			batch.add(write);
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			if (channel == null) {
+				throw new IOException("jira outbox journal is closed");
+			}
+			List<String> records = new ArrayList<>();
+			batch.forEach(item -> records.addAll(item.records()));
+			write(channel, records);
+			channel.force(false);
+			batch.forEach(item -> item.done().complete(null));
+		} catch (IOException e) {
+			UncheckedIOException exception = new UncheckedIOException(e);
+			batch.forEach(item -> item.done().completeExceptionally(exception));
+		}
+	}
+
+	private void write(FileChannel target, List<String> records) throws IOException {
+		StringBuilder content = new StringBuilder();
+		records.forEach(record -> content.append(record).append('\n'));
+		ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+		while (buffer.hasRemaining()) {
+			target.write(buffer);
+		}
+	}
+
+	private JiraOutboxEntry parseLine(String line) {
+		if (StringUtils.isBlank(line)) {
+			return null;
+		}
+		try {
+			return PluginUtils.parseObject(line, JiraOutboxEntry.class);
+		} catch (Exception e) {
+			// 进程异常退出时最后一行可能不完整
+			PluginLogUtils.error(e);
+			return null;
+		}
+	}
+
+	private FileChannel openChannel() throws IOException {
+		return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * 压缩后重新打开日志 (需持有 writeLock)
+	 */
+	private void reopen() {
+		if (channel != null && channel.isOpen()) {
+			return;
+		}
+		try {
+			channel = openChannel();
+		} catch (IOException e) {
+			PluginLogUtils.error(e);
+			channel = null;
+		}
+	}
+
+	private void deleteQuietly(Path tempFile) {
+		if (tempFile == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(tempFile);
+		} catch (IOException e) {
+			PluginLogUtils.error(e);
+		}
+	}
+
+	private record PendingWrite(List<String> records, CompletableFuture<Void> done) {
+	}
+}
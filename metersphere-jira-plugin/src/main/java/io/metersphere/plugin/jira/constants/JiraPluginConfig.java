@@ -0,0 +1,164 @@
+package io.metersphere.plugin.jira.constants;
+
+/**
+ * 插件可调参数, 均可通过 JVM 系统属性覆盖 (例: -Dmetersphere.jira.client.max-per-route=50)
+ */
+public class JiraPluginConfig {
+
+	private static final String PREFIX = "metersphere.jira.";
+
+	/**
+	 * 单个集成配置(路由)的最大连接数
+	 */
+	public static final int CLIENT_MAX_PER_ROUTE = Integer.getInteger(PREFIX + "client.max-per-route", 20);
+	/**
+	 * 单个集成配置连接池的最大连接数
+	 */
+	public static final int CLIENT_MAX_TOTAL = Integer.getInteger(PREFIX + "client.max-total", 50);
+	/**
+	 * 建立连接超时时间(毫秒)
+	 */
+	public static final int CLIENT_CONNECT_TIMEOUT_MS = Integer.getInteger(PREFIX + "client.connect-timeout-ms", 10000);
+	/**
+	 * 读取超时时间(毫秒)
+	 */
+	public static final int CLIENT_READ_TIMEOUT_MS = Integer.getInteger(PREFIX + "client.read-timeout-ms", 60000);
+	/**
+	 * 空闲连接回收时间(秒)
+	 */
+	public static final int CLIENT_IDLE_EVICT_SECONDS = Integer.getInteger(PREFIX + "client.idle-evict-seconds", 60);
+	/**
+	 * 客户端闲置多久后从注册表中移除并关闭连接池(分钟)
+	 */
+	public static final int CLIENT_EXPIRE_MINUTES = Integer.getInteger(PREFIX + "client.expire-minutes", 30);
+	/**
+	 * 存量同步时按Key批量查询缺陷的批次大小
+	 */
+	public static final int SYNC_BATCH_SIZE = Integer.getInteger(PREFIX + "sync.batch-size", 100);
+	/**
+	 * 全量同步时预读的分页数(流水线队列深度)
+	 */
+	public static final int SYNC_PREFETCH_PAGES = Integer.getInteger(PREFIX + "sync.prefetch-pages", 2);
+	/**
+	 * 全量同步时转换缺陷的线程数
+	 */
+	public static final int SYNC_CONVERT_THREADS = Integer.getInteger(PREFIX + "sync.convert-threads", 2);
+	/**
+	 * 是否开启增量同步(按更新时间水位只拉取变更过的缺陷, 仅在同步请求未指定创建时间条件时生效)
+	 */
+	public static final boolean SYNC_INCREMENTAL = Boolean.getBoolean(PREFIX + "sync.incremental");
+	/**
+	 * 增量同步时水位向前回溯的分钟数, 覆盖JQL分钟级精度及服务器时钟偏差
+	 */
+	public static final int SYNC_OVERLAP_MINUTES = Integer.getInteger(PREFIX + "sync.overlap-minutes", 5);
+	/**
+	 * 增量同步水位文件路径
+	 */
+	public static final String SYNC_WATERMARK_FILE = System.getProperty(PREFIX + "sync.watermark-file",
+			System.getProperty("java.io.tmpdir") + "/metersphere/jira-sync-watermark.properties");
+	/**
+	 * 创建元数据缓存时间(秒), 0 表示不缓存
+	 */
+	public static final int METADATA_CACHE_TTL_SECONDS = Integer.getInteger(PREFIX + "metadata.cache-ttl-seconds", 600);
+	/**
+	 * 并发加载模板选项的最大请求数
+	 */
+	public static final int OPTION_MAX_CONCURRENCY = Integer.getInteger(PREFIX + "option.max-concurrency", 32);
+	/**
+	 * 单个选项接口的超时时间(毫秒), 超时后该选项返回空
+	 */
+	public static final int OPTION_TIMEOUT_MS = Integer.getInteger(PREFIX + "option.timeout-ms", 5000);
+	/**
+	 * 选项缓存最大数量(每个集成配置)
+	 */
+	public static final int OPTION_CACHE_MAX_SIZE = Integer.getInteger(PREFIX + "option.cache-max-size", 500);
+	/**
+	 * 选项缓存软过期时间(秒), 超过后返回旧值并在后台刷新
+	 */
+	public static final int OPTION_CACHE_SOFT_TTL_SECONDS = Integer.getInteger(PREFIX + "option.cache-soft-ttl-seconds", 60);
+	/**
+	 * 选项缓存硬过期时间(秒), 超过后同步重新加载
+	 */
+	public static final int OPTION_CACHE_HARD_TTL_SECONDS = Integer.getInteger(PREFIX + "option.cache-hard-ttl-seconds", 1800);
+	/**
+	 * 状态流转缓存时间(秒)
+	 */
+	public static final int TRANSITION_CACHE_TTL_SECONDS = Integer.getInteger(PREFIX + "transition.cache-ttl-seconds", 600);
+	/**
+	 * 后台任务(附件上传, 关联事务, 状态流转)线程数
+	 */
+	public static final int TASK_THREADS = Integer.getInteger(PREFIX + "task.threads", 8);
+	/**
+	 * 后台任务队列长度, 队列满时拒绝提交
+	 */
+	public static final int TASK_QUEUE_CAPACITY = Integer.getInteger(PREFIX + "task.queue-capacity", 200);
+	/**
+	 * 单个后台任务超时时间(秒), 超时后中断任务
+	 */
+	public static final int TASK_TIMEOUT_SECONDS = Integer.getInteger(PREFIX + "task.timeout-seconds", 300);
+	/**
+	 * 插件停止时等待后台任务完成的时间(秒)
+	 */
+	public static final int TASK_SHUTDOWN_WAIT_SECONDS = Integer.getInteger(PREFIX + "task.shutdown-wait-seconds", 30);
+	/**
+	 * 后台任务持久化目录 (outbox 日志及待上传附件)
+	 */
+	public static final String OUTBOX_DIR = System.getProperty(PREFIX + "outbox.dir",
+			System.getProperty("java.io.tmpdir") + "/metersphere/jira-outbox");
+	/**
+	 * 后台任务调度间隔(毫秒)
+	 */
+	public static final int OUTBOX_POLL_INTERVAL_MS = Integer.getInteger(PREFIX + "outbox.poll-interval-ms", 1000);
+	/**
+	 * 后台任务最大尝试次数, 超过后丢弃并记录日志
+	 */
+	public static final int OUTBOX_MAX_ATTEMPTS = Integer.getInteger(PREFIX + "outbox.max-attempts", 10);
+	/**
+	 * 后台任务重试的初始退避时间(毫秒), 每次失败翻倍
+	 */
+	public static final int OUTBOX_BACKOFF_BASE_MS = Integer.getInteger(PREFIX + "outbox.backoff-base-ms", 2000);
+	/**
+	 * 后台任务重试的最大退避时间(毫秒)
+	 */
+	public static final int OUTBOX_BACKOFF_MAX_MS = Integer.getInteger(PREFIX + "outbox.backoff-max-ms", 600000);
+	/**
+	 * 恢复的后台任务等待对应集成客户端的最长时间(小时), 超过后丢弃并记录日志
+	 */
+	public static final int OUTBOX_ORPHAN_EXPIRE_HOURS = Integer.getInteger(PREFIX + "outbox.orphan-expire-hours", 24);
+	/**
+	 * 完成多少个后台任务后压缩日志
+	 */
+	public static final int OUTBOX_COMPACT_THRESHOLD = Integer.getInteger(PREFIX + "outbox.compact-threshold", 200);
+	/**
+	 * 批量上传附件时单个请求的最大字节数, 单个文件超过上限时单独上传
+	 */
+	public static final long ATTACHMENT_BATCH_MAX_BYTES = Long.getLong(PREFIX + "attachment.batch-max-bytes", 20L * 1024 * 1024);
+	/**
+	 * 批量上传附件时单个请求的最大文件数
+	 */
+	public static final int ATTACHMENT_BATCH_MAX_FILES = Integer.getInteger(PREFIX + "attachment.batch-max-files", 10);
+	/**
+	 * 批量上传附件的并发请求数
+	 */
+	public static final int ATTACHMENT_UPLOAD_CONCURRENCY = Integer.getInteger(PREFIX + "attachment.upload-concurrency", 4);
+	/**
+	 * 附件下载到文件时的最大尝试次数, 中断后通过 Range 请求断点续传
+	 */
+	public static final int ATTACHMENT_DOWNLOAD_MAX_ATTEMPTS = Integer.getInteger(PREFIX + "attachment.download-max-attempts", 3);
+	/**
+	 * 本客户端上传的附件摘要缓存时间(秒), 用于上传前跳过内容相同的附件
+	 */
+	public static final int ATTACHMENT_DIGEST_CACHE_TTL_SECONDS = Integer.getInteger(PREFIX + "attachment.digest-cache-ttl-seconds", 1800);
+	/**
+	 * 编辑缺陷时新增/删除关联事务的并发请求数
+	 */
+	public static final int ISSUE_LINK_CONCURRENCY = Integer.getInteger(PREFIX + "issue-link.concurrency", 4);
+	/**
+	 * 需求列表是否由Jira分页及搜索(关键字, 排除项, 分页均转换为JQL), 关闭时拉取全部需求后在内存中过滤分页
+	 */
+	public static final boolean DEMAND_SERVER_SIDE_SEARCH = Boolean.getBoolean(PREFIX + "demand.server-side-search");
+	/**
+	 * 需求列表缓存时间(秒), 缓存刷新后增量更新需求搜索索引
+	 */
+	public static final int DEMAND_CACHE_TTL_SECONDS = Integer.getInteger(PREFIX + "demand.cache-ttl-seconds", 60);
+}
@@ -0,0 +1,51 @@
+package io.metersphere.plugin.jira.domain;
+
+import lombok.Data;
+
+/**
+ * 待执行的后台任务 (缺陷创建后的附件上传, 关联事务, 状态流转)
+ */
+@Data
+public class JiraOutboxEntry {
+
+    private String id;
+
+    /**
+     * 日志操作 {PUT: 新增或更新, DONE: 已完成}
+     */
+    private String op;
+
+    /**
+     * 集成标识
+     */
+    private String integrationKey;
+
+    /**
+     * 集成地址及账号 (不含认证信息), 集成认证信息变更后用于找回客户端
+     */
+    private String endpoint;
+
+    private String account;
+
+    /**
+     * 任务类型 {@link io.metersphere.plugin.jira.enums.JiraSideEffectType}
+     */
+    private String type;
+
+    private String issueKey;
+
+    private String projectKey;
+
+    private String issueType;
+
+    /**
+     * 任务参数 {上传附件: 文件路径, 关联事务/状态流转: 请求JSON}
+     */
+    private String payload;
+
+    private int attempts;
+
+    private long nextAttemptTime;
+
+    private long createTime;
+}
@@ -0,0 +1,21 @@
+package io.metersphere.plugin.jira.enums;
+
+public enum JiraAttachmentFieldSupport {
+
+    /**
+     * 未检测
+     */
+    UNKNOWN,
+    /**
+     * 搜索结果中直接返回附件字段
+     */
+    SEARCH,
+    /**
+     * 搜索结果不返回附件字段, 需按缺陷Key单独查询
+     */
+    QUERY_BY_KEYS,
+    /**
+     * 不支持附件字段
+     */
+    NONE
+}
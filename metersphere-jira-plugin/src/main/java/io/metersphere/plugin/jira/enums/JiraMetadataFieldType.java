@@ -5,7 +5,7 @@ import io.metersphere.plugin.platform.enums.PlatformCustomFieldType;
 import lombok.Getter;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 枚举用来映射JiraField的字段类型到Metersphere的字段类型
@@ -58,6 +58,32 @@ public enum JiraMetadataFieldType {
 	 */
 	RICH_TEXT(Set.of(JiraMetadataField.DESCRIPTION_FIELD_NAME, JiraMetadataField.ENVIRONMENT_FIELD_NAME), PlatformCustomFieldType.RICH_TEXT.name());
 
+	/**
+	 * Jira字段类型 -> MS字段类型
+	 */
+	private static final Map<String, String> CUSTOM_FIELD_TYPE_MAP;
+
+	/**
+	 * Jira字段类型, 按长度倒序 (优先匹配最长的类型)
+	 */
+	private static final String[] MATCH_KEYS;
+
+	/**
+	 * 匹配结果缓存, Key: 待匹配的类型
+	 */
+	private static final Map<String, Optional<String>> MAPPING_CACHE = new ConcurrentHashMap<>();
+
+	private static final int MAPPING_CACHE_MAX_SIZE = 4096;
+
+	static {
+		Map<String, String> customFieldTypeMap = new LinkedHashMap<>();
+		for (JiraMetadataFieldType fieldType : values()) {
+			fieldType.getJiraFieldTypeSet().forEach(key -> customFieldTypeMap.putIfAbsent(key, fieldType.getCustomFieldType()));
+		}
+		CUSTOM_FIELD_TYPE_MAP = Collections.unmodifiableMap(customFieldTypeMap);
+		MATCH_KEYS = customFieldTypeMap.keySet().stream().sorted(Comparator.comparingInt(String::length).reversed()).toArray(String[]::new);
+	}
+
 	private final Set<String> jiraFieldTypeSet;
 
 	private final String customFieldType;
@@ -70,23 +96,27 @@ public enum JiraMetadataFieldType {
 	public static String mappingJiraCustomType(String jiraType) {
 		// 这里的类型匹配为正则最佳匹配;
 		// 例如jiraType为"fixVersion", 存在枚举A("version", "A"), 枚举B("fixVersion", "B"), 则会匹配到B, 并返回B的类型
-		List<Set<String>> typeSetList = Arrays.stream(JiraMetadataFieldType.values()).map(JiraMetadataFieldType::getJiraFieldTypeSet).toList();
-		Set<String> keys = typeSetList.stream().flatMap(Set::stream).collect(Collectors.toSet());
-		Set<String> matchKeys = keys.stream().filter(jiraType::contains).collect(Collectors.toSet());
-		Optional<String> matchOptional = matchKeys.stream().max(Comparator.comparingInt(String::length));
-		if (matchOptional.isPresent()) {
-			String bestMatchKey = matchOptional.get();
-			return getCustomFieldType(bestMatchKey);
-		} else {
-			return null;
+		Optional<String> customFieldType = MAPPING_CACHE.get(jiraType);
+		if (customFieldType == null) {
+			customFieldType = Optional.ofNullable(matchCustomFieldType(jiraType));
+			if (MAPPING_CACHE.size() < MAPPING_CACHE_MAX_SIZE) {
+				MAPPING_CACHE.put(jiraType, customFieldType);
+			}
 		}
+		return customFieldType.orElse(null);
 	}
 
 	public static String getCustomFieldType(String key) {
-		return Arrays.stream(JiraMetadataFieldType.values())
-				.filter(jiraMetadataFieldType -> jiraMetadataFieldType.getJiraFieldTypeSet().contains(key))
-				.findFirst()
-				.map(JiraMetadataFieldType::getCustomFieldType)
-				.orElse(null);
+		return CUSTOM_FIELD_TYPE_MAP.get(key);
+	}
+
+	private static String matchCustomFieldType(String jiraType) {
+		// 类型按长度倒序, 第一个包含的即为最长匹配
+		for (String key : MATCH_KEYS) {
+			if (jiraType.contains(key)) {
+				return CUSTOM_FIELD_TYPE_MAP.get(key);
+			}
+		}
+		return null;
 	}
 }
@@ -0,0 +1,17 @@
+package io.metersphere.plugin.jira.enums;
+
+public enum JiraSideEffectType {
+
+    /**
+     * 上传附件
+     */
+    UPLOAD_ATTACHMENT,
+    /**
+     * 关联事务
+     */
+    LINK_ISSUE,
+    /**
+     * 状态流转
+     */
+    TRANSITION
+}
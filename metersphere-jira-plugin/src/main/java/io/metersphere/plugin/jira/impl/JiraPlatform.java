@@ -1,11 +1,24 @@
 package io.metersphere.plugin.jira.impl;
 
 
+import io.metersphere.plugin.common.utils.BackgroundTaskExecutor;
+import io.metersphere.plugin.common.utils.DemandSearchIndex;
+import io.metersphere.plugin.common.utils.TimestampParser;
+import io.metersphere.plugin.common.utils.TtlCache;
+import io.metersphere.plugin.jira.client.JiraClientRegistry;
 import io.metersphere.plugin.jira.client.JiraDefaultClient;
+import io.metersphere.plugin.jira.client.JiraOutbox;
 import io.metersphere.plugin.jira.constants.*;
 import io.metersphere.plugin.jira.domain.*;
+import io.metersphere.plugin.jira.enums.JiraAttachmentFieldSupport;
 import io.metersphere.plugin.jira.enums.JiraMetadataFieldType;
 import io.metersphere.plugin.jira.enums.JiraOptionKey;
+import io.metersphere.plugin.jira.enums.JiraSideEffectType;
+import io.metersphere.plugin.jira.utils.FileDigestUtils;
+import io.metersphere.plugin.jira.utils.JiraIssueLinkDiff;
+import io.metersphere.plugin.jira.utils.LocalFileSyncWatermarkStore;
+import io.metersphere.plugin.jira.utils.SyncPagePipeline;
+import io.metersphere.plugin.jira.utils.SyncWatermarkStore;
 import io.metersphere.plugin.platform.dto.PlatformAttachment;
 import io.metersphere.plugin.platform.dto.SelectOption;
 import io.metersphere.plugin.platform.dto.SyncBugResult;
@@ -23,7 +36,6 @@ import io.metersphere.plugin.sdk.util.PluginLogUtils;
 import io.metersphere.plugin.sdk.util.PluginUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.pf4j.Extension;
 import org.springframework.beans.BeanUtils;
@@ -33,12 +45,17 @@ import org.springframework.web.client.HttpClientErrorException;
 
 import java.io.File;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
-import java.text.SimpleDateFormat;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Path;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -53,14 +70,87 @@ public class JiraPlatform extends AbstractPlatform {
 
 	protected JiraProjectConfig projectConfig;
 
-	protected SimpleDateFormat sdfWithZone = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
-
 	protected static final String MS_RICH_TEXT_PREVIEW_SRC_PREFIX = "/bug/attachment/preview/md";
 
+	/**
+	 * 增量同步水位存储
+	 */
+	protected static volatile SyncWatermarkStore syncWatermarkStore = new LocalFileSyncWatermarkStore(Path.of(JiraPluginConfig.SYNC_WATERMARK_FILE));
+
+	/**
+	 * 加载模板选项的线程池, 每个任务一个虚拟线程, 插件停止时关闭
+	 */
+	private static volatile ExecutorService optionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	/**
+	 * 加载模板选项的并发数限制
+	 */
+	private static final Semaphore OPTION_PERMITS = new Semaphore(JiraPluginConfig.OPTION_MAX_CONCURRENCY);
+
+	/**
+	 * 需求搜索索引缓存, Key: 集成标识|项目Key|需求类型; 过期后重新拉取需求列表并增量更新原索引
+	 */
+	private static final TtlCache<String, DemandSearchIndex<PlatformDemandDTO.Demand>> DEMAND_CACHE =
+			new TtlCache<>(TimeUnit.SECONDS.toMillis(JiraPluginConfig.DEMAND_CACHE_TTL_SECONDS));
+
+	/**
+	 * 需求Key格式 (项目Key-数字)
+	 */
+	private static final Pattern DEMAND_KEY_PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9_]*-\\d+");
+
+	/**
+	 * 缺陷创建/更新时间解析 (如 2024-03-05T10:15:30.000+0800, 按Jira返回的时区偏移解析)
+	 */
+	private static final TimestampParser ISSUE_TIME_PARSER = new TimestampParser("yyyy-MM-dd'T'HH:mm:ss[.SSS][XX]");
+
+	/**
+	 * Jira日期时间字段格式
+	 */
+	private static final DateTimeFormatter JIRA_DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+	/**
+	 * 通用日期时间格式
+	 */
+	private static final DateTimeFormatter UNIVERSAL_DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	/**
+	 * MS富文本本地图片地址
+	 */
+	private static final Pattern MS_RICH_TEXT_LOCAL_IMG_PATTERN = Pattern.compile("(<img src=\"" + MS_RICH_TEXT_PREVIEW_SRC_PREFIX + "/)(.*?)(\")");
+
+	/**
+	 * 下拉选项方法表 (方法名 -> public List xxx(GetOptionRequest)), 只允许列出的方法; 类加载时解析, 方法缺失时直接失败
+	 */
+	private static final Map<String, MethodHandle> OPTION_METHODS = resolveOptionMethods(List.of(JiraMetadataFieldSearchMethod.GET_USER, JiraMetadataFieldSearchMethod.GET_ASSIGNABLE,
+			JiraMetadataFieldSearchMethod.GET_ISSUE_LINK, JiraMetadataFieldSearchMethod.GET_SPRINT));
+
+	/**
+	 * 同步缺陷时始终需要的Jira字段
+	 */
+	protected static final List<String> SYNC_BASE_FIELDS = List.of(JiraMetadataField.SUMMARY_FIELD_NAME, JiraMetadataField.DESCRIPTION_FIELD_NAME,
+			JiraMetadataSpecialSystemField.ASSIGNEE, "status", "created", "updated", JiraMetadataField.ATTACHMENT_NAME,
+			JiraMetadataSpecialSystemField.ISSUE_LINKS, JiraMetadataSpecialSystemField.TIME_TRACKING);
+
 	public JiraPlatform(PlatformRequest request) {
 		super(request);
 		JiraIntegrationConfig integrationConfig = getIntegrationConfig(request.getIntegrationConfig(), JiraIntegrationConfig.class);
-		jiraClient = new JiraDefaultClient(integrationConfig);
+		jiraClient = JiraClientRegistry.getClient(integrationConfig);
+	}
+
+	/**
+	 * 启动模板选项线程池 (插件重新启动时重建已关闭的线程池)
+	 */
+	public static synchronized void startOptionExecutor() {
+		if (optionExecutor.isShutdown()) {
+			optionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		}
+	}
+
+	/**
+	 * 关闭模板选项线程池, 中断加载中的选项请求
+	 */
+	public static synchronized void shutdownOptionExecutor() {
+		optionExecutor.shutdownNow();
 	}
 
 	/**
@@ -95,6 +185,8 @@ public class JiraPlatform extends AbstractPlatform {
 			if (project != null && StringUtils.isBlank(project.getId())) {
 				throw new MSPluginException("项目不存在");
 			}
+			// 项目配置变更后重新加载创建元数据
+			jiraClient.invalidateCreateMetadata(projectConfig.getJiraKey());
 		} catch (Exception e) {
 			throw new MSPluginException(e.getMessage());
 		}
@@ -138,7 +230,8 @@ public class JiraPlatform extends AbstractPlatform {
 	 * @param config 集成配置
 	 */
 	private void validateAndSetConfig(JiraIntegrationConfig config) {
-		jiraClient.initConfig(config);
+		// 按配置从注册表获取独立的客户端, 不修改其他实例共享的客户端状态
+		jiraClient = JiraClientRegistry.getClient(config);
 	}
 
 	/**
@@ -222,20 +315,43 @@ public class JiraPlatform extends AbstractPlatform {
 	 */
 	@Override
 	public List<SelectOption> getFormOptions(GetOptionRequest request) {
-		String method = request.getOptionMethod();
+		// 不可变Map查询null会抛出空指针
+		MethodHandle optionMethod = request.getOptionMethod() == null ? null : OPTION_METHODS.get(request.getOptionMethod());
+		if (optionMethod == null) {
+			PluginLogUtils.info("unsupported option method: " + request.getOptionMethod());
+			throw new MSPluginException("unsupported option method: " + request.getOptionMethod());
+		}
 		try {
-			// 这里反射调用 getIssueTypes 等方法，获取下拉框选项
 			// noinspection unchecked
-			return (List<SelectOption>) this.getClass().getMethod(method, request.getClass()).invoke(this, request);
-		} catch (InvocationTargetException e) {
-			PluginLogUtils.error(e.getTargetException());
-			throw new MSPluginException(e.getTargetException());
-		} catch (Exception e) {
+			return (List<SelectOption>) optionMethod.invokeExact((Object) this, request);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			PluginLogUtils.error(e);
 			throw new MSPluginException(e);
 		}
 	}
 
+	/**
+	 * 解析下拉选项方法
+	 *
+	 * @param methodNames 允许调用的方法名
+	 * @return 方法名 -> 方法句柄
+	 */
+	private static Map<String, MethodHandle> resolveOptionMethods(List<String> methodNames) {
+		Map<String, MethodHandle> optionMethods = new HashMap<>();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		for (String methodName : methodNames) {
+			try {
+				optionMethods.put(methodName, lookup.findVirtual(JiraPlatform.class, methodName, MethodType.methodType(List.class, GetOptionRequest.class))
+						.asType(MethodType.methodType(List.class, Object.class, GetOptionRequest.class)));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				throw new MSPluginException("option method not found: " + methodName, e);
+			}
+		}
+		return Map.copyOf(optionMethods);
+	}
+
 	/**
 	 * 获取第三方平台状态列表
 	 *
@@ -286,21 +402,41 @@ public class JiraPlatform extends AbstractPlatform {
 		// validate demand config
 		projectConfig = getProjectConfig(request.getProjectConfig());
 		validateDemandType();
-		List<Map<String, Object>> issues = queryAllDemand(request);
-		if (CollectionUtils.isEmpty(issues)) {
+		if (JiraPluginConfig.DEMAND_SERVER_SIDE_SEARCH) {
+			return searchDemand(request);
+		}
+		// 需求列表缓存一段时间, 关键字搜索走索引, 避免每次输入都拉取并遍历全部需求
+		DemandSearchIndex<PlatformDemandDTO.Demand> demandIndex = DEMAND_CACHE.getOrReload(getDemandCacheKey(), previous -> {
+			DemandSearchIndex<PlatformDemandDTO.Demand> index = previous != null ? previous :
+					new DemandSearchIndex<>(PlatformDemandDTO.Demand::getDemandId, PlatformDemandDTO.Demand::getDemandName, true);
+			index.refresh(queryAllDemand(request).stream().map(this::buildDemand).toList());
+			return index;
+		});
+		if (demandIndex.isEmpty()) {
 			return new PluginPager<>(new PlatformDemandDTO(), 0, request.getPageSize(), request.getStartPage());
 		}
-		PlatformDemandDTO response = buildPlatformDemand(issues, null, request.getQuery(), request.getExcludeIds());
-		int total = response.getList().size();
-		if (request.isSelectAll()) {
-			// no pager
-			return new PluginPager<>(response, total, Integer.MAX_VALUE, request.getStartPage());
-		} else {
-			// set pager
-			List<PlatformDemandDTO.Demand> pageDemands = response.getList().stream().skip((long) (request.getStartPage() - 1) * request.getPageSize()).limit(request.getPageSize()).collect(Collectors.toList());
-			response.setList(pageDemands);
-			return new PluginPager<>(response, total, request.getPageSize(), request.getStartPage());
-		}
+		Set<String> excludeIds = CollectionUtils.isEmpty(request.getExcludeIds()) ? Set.of() : new HashSet<>(request.getExcludeIds());
+		DemandSearchIndex.SearchResult<PlatformDemandDTO.Demand> result = request.isSelectAll() ?
+				// no pager
+				demandIndex.search(request.getQuery(), demand -> !excludeIds.contains(demand.getDemandId()), 0, Integer.MAX_VALUE) :
+				// set pager
+				demandIndex.search(request.getQuery(), demand -> !excludeIds.contains(demand.getDemandId()),
+						(request.getStartPage() - 1) * request.getPageSize(), request.getPageSize());
+		PlatformDemandDTO response = new PlatformDemandDTO();
+		// 返回缓存需求的副本, 调用方修改不影响缓存
+		response.setList(result.list().stream().map(this::copyDemand).collect(Collectors.toList()));
+		response.setCustomHeaders(new ArrayList<>());
+		return new PluginPager<>(response, result.total(), request.isSelectAll() ? Integer.MAX_VALUE : request.getPageSize(), request.getStartPage());
+	}
+
+	/**
+	 * 获取需求缓存Key (集成标识 + 项目Key + 需求类型)
+	 *
+	 * @return 缓存Key
+	 */
+	private String getDemandCacheKey() {
+		String integration = StringUtils.defaultIfBlank(jiraClient.getIntegrationKey(), jiraClient.getEndpoint());
+		return String.join("|", integration, projectConfig.getJiraKey(), projectConfig.getJiraDemandTypeId());
 	}
 
 	/**
@@ -314,17 +450,24 @@ public class JiraPlatform extends AbstractPlatform {
 		// validate demand config
 		projectConfig = getProjectConfig(request.getProjectConfig());
 		validateDemandType();
-		// query demand list by ids
-		Map<String, Object> bodyMap = jiraClient.pageDemand(projectConfig.getJiraKey(), projectConfig.getJiraDemandTypeId(), 1, Integer.MAX_VALUE, null);
-		// handle empty data
-		if (bodyMap == null) {
-			return null;
+		List<String> relateDemandIds = request.getRelateDemandIds();
+		List<Map<String, Object>> issues;
+		if (CollectionUtils.isEmpty(relateDemandIds)) {
+			// query demand list
+			Map<String, Object> bodyMap = jiraClient.pageDemand(projectConfig.getJiraKey(), projectConfig.getJiraDemandTypeId(), 1, Integer.MAX_VALUE, null);
+			// handle empty data
+			if (bodyMap == null) {
+				return null;
+			}
+			issues = (List<Map<String, Object>>) bodyMap.get("issues");
+		} else {
+			// query demand list by ids
+			issues = queryDemandByKeys(relateDemandIds);
 		}
-		List<Map<String, Object>> issues = (List<Map<String, Object>>) bodyMap.get("issues");
 		if (CollectionUtils.isEmpty(issues)) {
 			return null;
 		}
-		return buildPlatformDemand(issues, request.getRelateDemandIds(), null, null);
+		return buildPlatformDemand(issues, relateDemandIds);
 	}
 
 	/**
@@ -354,7 +497,8 @@ public class JiraPlatform extends AbstractPlatform {
 		// do transition
 		Map<String, Object> transitionMap = new HashMap<>();
 		if (statusField != null) {
-			List<JiraTransitionsResponse.Transitions> transitions = jiraClient.getTransitions(result.getKey());
+			List<JiraTransitionsResponse.Transitions> transitions = jiraClient.getStatusTransitions(projectConfig.getJiraKey(), projectConfig.getJiraBugTypeId(),
+					JiraDefaultClient.INITIAL_STATUS, result.getKey());
 			if (!CollectionUtils.isEmpty(transitions)) {
 				JiraTransitionsResponse.Transitions transition = transitions.stream().filter(item -> StringUtils.equals(item.getTo().getId(),
 						statusField.getValue().toString())).findFirst().orElse(null);
@@ -367,23 +511,23 @@ public class JiraPlatform extends AbstractPlatform {
 			}
 		}
 
-		// Time-consuming, some operations are handle async;
-		new Thread(() -> {
-			// handle rich-text image (no-delete-image)
-			request.getRichFileMap().values().forEach(file -> {
-				// add image attachment
-				jiraClient.uploadAttachment(result.getKey(), file);
-			});
-
-			// link issue
-			if (!CollectionUtils.isEmpty(issueLinkFields)) {
-				linkIssue(issueLinkFields, result.getKey(), jiraClient.getIssueLinkType());
-			}
-			// do transition
-			if (statusField != null) {
-				jiraClient.doTransitions(PluginUtils.toJSONString(transitionMap), result.getKey());
-			}
-		}).start();
+		// Time-consuming, some operations are handle async; persist them first so they survive restart and retry on failure
+		List<JiraOutboxEntry> sideEffects = new ArrayList<>();
+		// handle rich-text image (no-delete-image)
+		request.getRichFileMap().values().stream().distinct().forEach(file -> sideEffects.add(JiraOutbox.newEntry(JiraSideEffectType.UPLOAD_ATTACHMENT, result.getKey(), file.getPath())));
+		// link issue
+		if (!CollectionUtils.isEmpty(issueLinkFields)) {
+			buildIssueLinkRequests(issueLinkFields, result.getKey(), jiraClient.getIssueLinkType()).forEach(linkRequest ->
+					sideEffects.add(JiraOutbox.newEntry(JiraSideEffectType.LINK_ISSUE, result.getKey(), PluginUtils.toJSONString(linkRequest))));
+		}
+		// do transition
+		if (!transitionMap.isEmpty()) {
+			JiraOutboxEntry transitionEntry = JiraOutbox.newEntry(JiraSideEffectType.TRANSITION, result.getKey(), PluginUtils.toJSONString(transitionMap));
+			transitionEntry.setProjectKey(projectConfig.getJiraKey());
+			transitionEntry.setIssueType(projectConfig.getJiraBugTypeId());
+			sideEffects.add(transitionEntry);
+		}
+		JiraOutbox.submit(jiraClient, sideEffects);
 
 		// return result
 		platformBug.setPlatformBugKey(result.getKey());
@@ -420,37 +564,42 @@ public class JiraPlatform extends AbstractPlatform {
 		}
 
 		// Time-consuming, some operations are handle async;
-		new Thread(() -> {
+		submitUpdateSideEffects("jira updateBug " + request.getPlatformBugId(), () -> {
 			// handle rich-text image
 			JiraIssue jiraIssue = jiraClient.getIssues(request.getPlatformBugId());
 			Map<String, Object> fields = jiraIssue.getFields();
 			List<Map<String, Object>> attachments = (List<Map<String, Object>>) fields.get(JiraMetadataField.ATTACHMENT_NAME);
+			// 保留的图片附件 (富文本按文件名引用附件, 只有同名附件可以代替上传)
+			List<Map<String, Object>> remainImageAttachments = new ArrayList<>();
 			if (!CollectionUtils.isEmpty(attachments)) {
 				// delete image attachment
 				for (Map<String, Object> attachment : attachments) {
 					String filename = attachment.get("filename").toString();
 					String mimeType = attachment.get("mimeType").toString();
-					if (StringUtils.startsWithIgnoreCase(mimeType, "image") && StringUtils.startsWithIgnoreCase(filename, "image")
-							&& !remainImgNameFromRichText.contains(filename)) {
-						// 只处理富文本生成的图片附件, 如果更新后不存在则移除, 其余类型文件暂不处理
-						String fileId = attachment.get("id").toString();
-						jiraClient.deleteAttachment(fileId);
+					if (StringUtils.startsWithIgnoreCase(mimeType, "image") && StringUtils.startsWithIgnoreCase(filename, "image")) {
+						if (remainImgNameFromRichText.contains(filename)) {
+							remainImageAttachments.add(attachment);
+						} else {
+							// 只处理富文本生成的图片附件, 如果更新后不存在则移除, 其余类型文件暂不处理
+							String fileId = attachment.get("id").toString();
+							jiraClient.deleteAttachment(fileId);
+						}
 					}
 				}
 			}
 
 			if (!CollectionUtils.isEmpty(request.getRichFileMap())) {
 				// add image attachment
-				request.getRichFileMap().values().forEach(file -> {
-					jiraClient.uploadAttachment(request.getPlatformBugId(), file);
-				});
+				List<File> imageFiles = request.getRichFileMap().values().stream().distinct().toList();
+				jiraClient.uploadAttachments(request.getPlatformBugId(), jiraClient.filterUploadedAttachments(remainImageAttachments.stream()
+						.filter(attachment -> imageFiles.stream().anyMatch(file -> StringUtils.equals(file.getName(), attachment.get("filename").toString())))
+						.toList(), imageFiles));
 			}
 
 			// link or unlink issue
 			if (!CollectionUtils.isEmpty(issueLinkFields)) {
-				// When edit, clean up all the last issue links and re-associate a group of issue links
-				unLinkIssue(request.getPlatformBugId());
-				linkIssue(issueLinkFields, request.getPlatformBugId(), jiraClient.getIssueLinkType());
+				// When edit, only remove the links that no longer exist and add the new ones
+				reconcileIssueLinks(issueLinkFields, request.getPlatformBugId(), fields);
 			}
 
 			// do transition
@@ -461,13 +610,27 @@ public class JiraPlatform extends AbstractPlatform {
 				transitionMap.put("transition", status);
 				jiraClient.doTransitions(PluginUtils.toJSONString(transitionMap), request.getPlatformBugId());
 			}
-		}).start();
+		});
 
 		// return result
 		platformBug.setPlatformBugKey(request.getPlatformBugId());
 		return platformBug;
 	}
 
+	/**
+	 * 提交缺陷更新后的后台任务; 队列已满时记录日志, 不使已生效的缺陷更新失败 (再次保存缺陷即可补齐附件, 关联事务及状态)
+	 *
+	 * @param taskName 任务名称
+	 * @param task     任务
+	 */
+	private void submitUpdateSideEffects(String taskName, Runnable task) {
+		try {
+			BackgroundTaskExecutor.submit(taskName, task);
+		} catch (RejectedExecutionException e) {
+			PluginLogUtils.error(taskName + " updated the issue fields, but its attachments, issue links and status transition were rejected", e);
+		}
+	}
+
 	/**
 	 * 删除缺陷
 	 *
@@ -499,8 +662,10 @@ public class JiraPlatform extends AbstractPlatform {
 		String syncType = request.getSyncType();
 		File file = request.getFile();
 		if (StringUtils.equals(SyncAttachmentType.UPLOAD.syncOperateType(), syncType)) {
-			// 上传附件
-			jiraClient.uploadAttachment(request.getPlatformKey(), file);
+			// 上传附件 (缺陷上已存在相同附件时跳过)
+			if (!jiraClient.filterUploadedAttachments(jiraClient.getIssueAttachments(request.getPlatformKey()), List.of(file)).isEmpty()) {
+				jiraClient.uploadAttachment(request.getPlatformKey(), file);
+			}
 		} else if (StringUtils.equals(SyncAttachmentType.DELETE.syncOperateType(), syncType)) {
 			// 删除附件
 			JiraIssue jiraIssue = jiraClient.getIssues(request.getPlatformKey());
@@ -528,38 +693,55 @@ public class JiraPlatform extends AbstractPlatform {
 	public SyncBugResult syncBugs(SyncBugRequest request) {
 		SyncBugResult syncResult = new SyncBugResult();
 		projectConfig = getProjectConfig(request.getProjectConfig());
-		// 获取默认的模板字段
-		List<PlatformCustomFieldItemDTO> defaultTemplateCustomField = getDefaultTemplateCustomField(request.getProjectConfig());
+		// 获取默认的模板字段 (每次同步只构建一次字段原型)
+		List<PlatformCustomFieldItemDTO> defaultTemplateCustomField = buildSyncTemplateFields(getDefaultTemplateCustomField(request.getProjectConfig()));
+		// 同一模板的缺陷共用字段列表, 每个模板只构建一次字段原型
+		Map<List<PlatformCustomFieldItemDTO>, List<PlatformCustomFieldItemDTO>> bugTemplateFieldsMap = new IdentityHashMap<>();
 		List<PlatformBugDTO> syncBugs = request.getBugs();
-		List<JiraTransitionsResponse.Transitions> transitions = new ArrayList<>();
-		for (PlatformBugDTO syncBug : syncBugs) {
+		List<String> syncFields = getSyncFields(defaultTemplateCustomField, syncBugs);
+		for (int i = 0; i < syncBugs.size(); i += JiraPluginConfig.SYNC_BATCH_SIZE) {
+			List<PlatformBugDTO> batchBugs = syncBugs.subList(i, Math.min(i + JiraPluginConfig.SYNC_BATCH_SIZE, syncBugs.size()));
+			// 按Key批量查询缺陷, 批量查询失败时退化为逐个查询
+			Map<String, JiraIssue> jiraIssueMap = new HashMap<>();
 			try {
-				JiraIssue jiraIssue = jiraClient.getIssues(syncBug.getPlatformBugId());
-				Map<String, String> jiraIssueAttachmentMap = new HashMap<>();
-				List attachments = (List) jiraIssue.getFields().get(JiraMetadataField.ATTACHMENT_NAME);
-				if (!CollectionUtils.isEmpty(attachments)) {
-					for (Object o : attachments) {
-						Map attachment = (Map) o;
-						jiraIssueAttachmentMap.put(attachment.get("filename").toString(), attachment.get("content").toString());
+				List<String> batchKeys = batchBugs.stream().map(PlatformBugDTO::getPlatformBugId).toList();
+				jiraClient.getIssuesByKeys(batchKeys, syncFields).forEach(issue -> jiraIssueMap.put(issue.getKey(), issue));
+			} catch (Exception e) {
+				PluginLogUtils.error(e);
+			}
+			for (PlatformBugDTO syncBug : batchBugs) {
+				try {
+					JiraIssue jiraIssue = jiraIssueMap.get(syncBug.getPlatformBugId());
+					if (jiraIssue == null) {
+						// 批量结果中不存在(已删除, 或被移动后Key发生变化), 单独查询确认, 404则同步删除
+						jiraIssue = jiraClient.getIssues(syncBug.getPlatformBugId());
+					}
+					Map<String, String> jiraIssueAttachmentMap = new HashMap<>();
+					List attachments = (List) jiraIssue.getFields().get(JiraMetadataField.ATTACHMENT_NAME);
+					if (!CollectionUtils.isEmpty(attachments)) {
+						for (Object o : attachments) {
+							Map attachment = (Map) o;
+							jiraIssueAttachmentMap.put(attachment.get("filename").toString(), attachment.get("content").toString());
+						}
 					}
-				}
 
-				if (jiraIssue != null && CollectionUtils.isEmpty(transitions)) {
-					transitions = jiraClient.getTransitions(syncBug.getPlatformBugId());
-				}
-				syncJiraFieldToMsBug(syncBug, jiraIssue, defaultTemplateCustomField, jiraIssueAttachmentMap);
-				// parse transition status
-				syncBug.setStatus(parseTransitionStatus(transitions, syncBug.getStatus()));
-				parseAttachmentToMsBug(syncResult, syncBug, jiraIssueAttachmentMap);
-				// 同步的缺陷待更新
-				syncResult.getUpdateBug().add(syncBug);
-			} catch (HttpClientErrorException e) {
-				if (HttpStatus.NOT_FOUND.isSameCodeAs(e.getStatusCode())) {
-					// 缺陷未找到, 同步删除
-					syncResult.getDeleteBugIds().add(syncBug.getId());
+					// 缺陷使用平台默认模板时使用默认模板字段, 否则使用模板中配置的映射字段
+					List<PlatformCustomFieldItemDTO> templateFields = isSupportDefaultTemplate() && syncBug.getPlatformDefaultTemplate() ? defaultTemplateCustomField :
+							bugTemplateFieldsMap.computeIfAbsent(syncBug.getNeedSyncCustomFields(), this::buildSyncTemplateFields);
+					syncJiraFieldToMsBug(syncBug, jiraIssue, templateFields, jiraIssueAttachmentMap);
+					// parse transition status
+					syncBug.setStatus(parseTransitionStatus(syncBug.getStatus(), jiraIssue.getKey()));
+					parseAttachmentToMsBug(syncResult, syncBug, jiraIssueAttachmentMap);
+					// 同步的缺陷待更新
+					syncResult.getUpdateBug().add(syncBug);
+				} catch (HttpClientErrorException e) {
+					if (HttpStatus.NOT_FOUND.isSameCodeAs(e.getStatusCode())) {
+						// 缺陷未找到, 同步删除
+						syncResult.getDeleteBugIds().add(syncBug.getId());
+					}
+				} catch (Exception e) {
+					PluginLogUtils.error(e);
 				}
-			} catch (Exception e) {
-				PluginLogUtils.error(e);
 			}
 		}
 		return syncResult;
@@ -578,75 +760,225 @@ public class JiraPlatform extends AbstractPlatform {
 		validateIssueType();
 
 		// prepare page param
-		int startAt = 0, maxResults = 100, currentSize = 0;
-		// default template field
-		List<PlatformCustomFieldItemDTO> defaultTemplateCustomField = getDefaultTemplateCustomField(request.getProjectConfig());
-		do {
-			// prepare post process func param
-			List<PlatformBugDTO> needSyncBugs = new ArrayList<>();
-			SyncBugResult syncBugResult = new SyncBugResult();
-
-			// query jira bug by page
-			JiraIssueListResponse result = jiraClient.getProjectIssues(startAt, maxResults, projectConfig.getJiraKey(), projectConfig.getJiraBugTypeId(), request);
-			List<JiraIssue> jiraIssues = result.getIssues();
+		int maxResults = 100;
+		// default template field (每次同步只构建一次字段原型)
+		List<PlatformCustomFieldItemDTO> defaultTemplateCustomField = buildSyncTemplateFields(getDefaultTemplateCustomField(request.getProjectConfig()));
+		// 只查询同步用到的字段, 避免返回实例中全部自定义字段
+		String syncFields = String.join(",", getSyncFields(defaultTemplateCustomField, null));
+		// 增量同步: 未指定创建时间条件时, 只拉取水位(上次同步到的最大更新时间)之后更新过的缺陷
+		boolean incremental = JiraPluginConfig.SYNC_INCREMENTAL && (request.getPre() == null || request.getCreateTime() == null);
+		String watermarkKey = getSyncWatermarkKey(request.getProjectConfig());
+		Long watermark = incremental ? syncWatermarkStore.get(watermarkKey) : null;
+		UpdatedSinceCursor cursor = watermark == null ? null :
+				new UpdatedSinceCursor(watermark - TimeUnit.MINUTES.toMillis(JiraPluginConfig.SYNC_OVERLAP_MINUTES));
+		AtomicLong maxUpdateTime = new AtomicLong(watermark == null ? 0L : watermark);
+		// 拉取, 转换, 后置处理三个阶段流水线执行, 预读分页避免网络与数据库写入相互等待
+		new SyncPagePipeline<List<JiraIssue>, SyncPostParamRequest>(JiraPluginConfig.SYNC_PREFETCH_PAGES, JiraPluginConfig.SYNC_CONVERT_THREADS, "jira-sync")
+				.execute(pageIndex -> cursor == null ? fetchSyncPage(pageIndex * maxResults, maxResults, request, syncFields) :
+								fetchUpdatedSincePage(cursor, maxResults, syncFields),
+						jiraIssues -> cursor == null ? jiraIssues.size() >= maxResults : !cursor.exhausted,
+						jiraIssues -> {
+							SyncPostParamRequest syncPostParamRequest = convertSyncPage(jiraIssues, defaultTemplateCustomField);
+							syncPostParamRequest.getNeedSyncBugs().stream().map(PlatformBugDTO::getUpdateTime).filter(Objects::nonNull)
+									.forEach(updateTime -> maxUpdateTime.accumulateAndGet(updateTime, Math::max));
+							return syncPostParamRequest;
+						},
+						request.getSyncPostProcessFunc());
+		// 全部分页处理完成后才推进水位, 中途失败时下次从原水位重新同步
+		if (incremental && maxUpdateTime.get() > 0) {
+			syncWatermarkStore.save(watermarkKey, maxUpdateTime.get());
+		}
+	}
+
+	/**
+	 * 设置增量同步水位存储 (默认为本地文件存储)
+	 *
+	 * @param watermarkStore 水位存储
+	 */
+	public static void setSyncWatermarkStore(SyncWatermarkStore watermarkStore) {
+		syncWatermarkStore = watermarkStore;
+	}
+
+	/**
+	 * 获取增量同步水位Key (集成地址 + 集成标识 + 项目配置摘要 + 项目Key + 缺陷类型)
+	 * <p>
+	 * 同步接口的请求参数中没有平台项目ID, 以项目配置的摘要区分关联同一Jira项目的不同平台项目配置
+	 *
+	 * @param projectConfigStr 项目配置
+	 * @return 水位Key
+	 */
+	private String getSyncWatermarkKey(String projectConfigStr) {
+		return String.join("|", StringUtils.removeEnd(jiraClient.getEndpoint(), "/"), StringUtils.defaultString(jiraClient.getIntegrationKey()),
+				FileDigestUtils.sha256Hex(StringUtils.defaultString(projectConfigStr)), projectConfig.getJiraKey(), projectConfig.getJiraBugTypeId());
+	}
+
+	/**
+	 * 拉取全量同步的分页缺陷
+	 *
+	 * @param startAt    开始位置
+	 * @param maxResults 每页大小
+	 * @param request    同步全量缺陷请求参数
+	 * @param fields     查询字段
+	 * @return 缺陷集合, 没有数据时返回null
+	 */
+	private List<JiraIssue> fetchSyncPage(int startAt, int maxResults, SyncAllBugRequest request, String fields) {
+		// query jira bug by page
+		JiraIssueListResponse result = jiraClient.getProjectIssues(startAt, maxResults, projectConfig.getJiraKey(), projectConfig.getJiraBugTypeId(), request, fields);
+		List<JiraIssue> jiraIssues = result.getIssues();
+		if (CollectionUtils.isEmpty(jiraIssues)) {
+			return null;
+		}
+		fillAttachmentField(jiraIssues);
+		return jiraIssues;
+	}
+
+	/**
+	 * 拉取增量同步的分页缺陷 (按更新时间的键集分页)
+	 * <p>
+	 * 每页以上一页最后一条缺陷的更新时间作为下一页的时间下限, 同步过程中被修改的缺陷只会移到结果的更后面, 不会因偏移量错位而被跳过;
+	 * 同一分钟内更新的缺陷超过一页时(时间下限无法推进), 在该分钟内按偏移量翻页. 时间下限重叠的部分按缺陷Key去重.
+	 *
+	 * @param cursor     分页游标
+	 * @param maxResults 每页大小
+	 * @param fields     查询字段
+	 * @return 缺陷集合, 没有数据时返回null
+	 */
+	private List<JiraIssue> fetchUpdatedSincePage(UpdatedSinceCursor cursor, int maxResults, String fields) {
+		while (!cursor.exhausted) {
+			List<JiraIssue> jiraIssues = jiraClient.getProjectIssuesUpdatedSince(cursor.offset, maxResults, projectConfig.getJiraKey(),
+					projectConfig.getJiraBugTypeId(), cursor.lowerBound, fields).getIssues();
 			if (CollectionUtils.isEmpty(jiraIssues)) {
-				break;
-			}
-
-			currentSize = jiraIssues.size();
-			if (!CollectionUtils.isEmpty(jiraIssues)) {
-				// jira attachment field
-				Map<String, Object> attachmentFieldMap = new HashMap<>();
-				if (!jiraIssues.get(0).getFields().containsKey(JiraMetadataField.ATTACHMENT_NAME)) {
-					// if jira not support attachment field, query attachment by issue key
-					try {
-						JiraIssueListResponse response = jiraClient.getProjectIssuesAttachment(startAt, maxResults, projectConfig.getJiraKey(),
-								projectConfig.getJiraBugTypeId(), request);
-						List<JiraIssue> jiraIssuesWithAttachmentField = response.getIssues();
-						attachmentFieldMap = jiraIssuesWithAttachmentField.stream().collect(Collectors.toMap(JiraIssue::getKey, i -> i.getFields().get(JiraMetadataField.ATTACHMENT_NAME)));
-					} catch (Exception e) {
-						PluginLogUtils.error(e);
-					}
+				cursor.exhausted = true;
+				return null;
+			}
+			if (jiraIssues.size() < maxResults) {
+				cursor.exhausted = true;
+			} else {
+				long lastUpdateMinute = truncateToMinute(ISSUE_TIME_PARSER.parse((String) jiraIssues.get(jiraIssues.size() - 1).getFields().get("updated")));
+				if (lastUpdateMinute > cursor.lowerBound) {
+					cursor.lowerBound = lastUpdateMinute;
+					cursor.offset = 0;
+				} else {
+					cursor.offset += jiraIssues.size();
 				}
-				// jira status transition
-				List<JiraTransitionsResponse.Transitions> transitions = jiraClient.getTransitions(jiraIssues.get(0).getKey());
+			}
+			List<JiraIssue> newIssues = jiraIssues.stream().filter(issue -> cursor.seenKeys.add(issue.getKey()))
+					.collect(Collectors.toCollection(ArrayList::new));
+			if (!newIssues.isEmpty()) {
+				fillAttachmentField(newIssues);
+				return newIssues;
+			}
+		}
+		return null;
+	}
 
-				for (JiraIssue jiraIssue : jiraIssues) {
-					// prepare attachment param
-					Map<String, String> jiraIssueAttachmentMap = new HashMap<>();
-					List attachments = (List) jiraIssue.getFields().get(JiraMetadataField.ATTACHMENT_NAME);
-					if (!CollectionUtils.isEmpty(attachments)) {
-						for (Object o : attachments) {
-							Map attachment = (Map) o;
-							jiraIssueAttachmentMap.put(attachment.get("filename").toString(), attachment.get("content").toString());
-						}
-					}
-					// transfer jira bug field to ms
-					PlatformBugDTO msBug = new PlatformBugDTO();
-					msBug.setId(UUID.randomUUID().toString());
-					msBug.setPlatformDefaultTemplate(true);
-					msBug.setPlatformBugId(jiraIssue.getKey());
-					syncJiraFieldToMsBug(msBug, jiraIssue, defaultTemplateCustomField, jiraIssueAttachmentMap);
-					// parse transition status
-					msBug.setStatus(parseTransitionStatus(transitions, msBug.getStatus()));
-					needSyncBugs.add(msBug);
-					// handle attachment
-					if (attachmentFieldMap.containsKey(jiraIssue.getKey())) {
-						// set jira attachment field when jira issue not contain attachment field
-						jiraIssue.getFields().put(JiraMetadataField.ATTACHMENT_NAME, attachmentFieldMap.get(jiraIssue.getKey()));
-					}
-					parseAttachmentToMsBug(syncBugResult, msBug, jiraIssueAttachmentMap);
+	private static long truncateToMinute(long millis) {
+		return millis - Math.floorMod(millis, TimeUnit.MINUTES.toMillis(1));
+	}
+
+	/**
+	 * 增量同步分页游标 (仅在拉取线程中访问)
+	 */
+	private static final class UpdatedSinceCursor {
+
+		/**
+		 * 更新时间下限 (毫秒, JQL精度为分钟)
+		 */
+		private long lowerBound;
+
+		/**
+		 * 同一时间下限内的偏移量
+		 */
+		private int offset;
+
+		/**
+		 * 已拉取的缺陷Key
+		 */
+		private final Set<String> seenKeys = new HashSet<>();
+
+		private boolean exhausted;
+
+		private UpdatedSinceCursor(long lowerBound) {
+			this.lowerBound = lowerBound;
+		}
+	}
+
+	/**
+	 * 补充缺陷的附件字段
+	 * <p>
+	 * 部分Jira版本搜索结果不返回附件字段, 此时按本页缺陷Key单独查询一次附件;
+	 * 检测结果缓存在客户端上, 同一集成配置只检测一次.
+	 *
+	 * @param jiraIssues 缺陷集合
+	 */
+	private void fillAttachmentField(List<JiraIssue> jiraIssues) {
+		JiraAttachmentFieldSupport support = jiraClient.getAttachmentFieldSupport();
+		if (support == JiraAttachmentFieldSupport.SEARCH || support == JiraAttachmentFieldSupport.NONE) {
+			return;
+		}
+		if (support == JiraAttachmentFieldSupport.UNKNOWN && jiraIssues.get(0).getFields().containsKey(JiraMetadataField.ATTACHMENT_NAME)) {
+			jiraClient.setAttachmentFieldSupport(JiraAttachmentFieldSupport.SEARCH);
+			return;
+		}
+		// if jira not support attachment field in search, query attachment by issue key
+		try {
+			List<String> issueKeys = jiraIssues.stream().map(JiraIssue::getKey).toList();
+			Map<String, Object> attachmentFieldMap = new HashMap<>();
+			jiraClient.getIssuesByKeys(issueKeys, List.of(JiraMetadataField.ATTACHMENT_NAME)).stream()
+					.filter(issue -> issue.getFields() != null && issue.getFields().containsKey(JiraMetadataField.ATTACHMENT_NAME))
+					.forEach(issue -> attachmentFieldMap.put(issue.getKey(), issue.getFields().get(JiraMetadataField.ATTACHMENT_NAME)));
+			if (support == JiraAttachmentFieldSupport.UNKNOWN) {
+				jiraClient.setAttachmentFieldSupport(attachmentFieldMap.isEmpty() ? JiraAttachmentFieldSupport.NONE : JiraAttachmentFieldSupport.QUERY_BY_KEYS);
+			}
+			// set jira attachment field when jira issue not contain attachment field
+			jiraIssues.stream().filter(issue -> attachmentFieldMap.containsKey(issue.getKey()))
+					.forEach(issue -> issue.getFields().put(JiraMetadataField.ATTACHMENT_NAME, attachmentFieldMap.get(issue.getKey())));
+		} catch (Exception e) {
+			PluginLogUtils.error(e);
+		}
+	}
+
+	/**
+	 * 转换全量同步的分页缺陷
+	 *
+	 * @param jiraIssues                 缺陷集合
+	 * @param defaultTemplateCustomField 默认模板字段
+	 * @return 后置处理参数
+	 */
+	private SyncPostParamRequest convertSyncPage(List<JiraIssue> jiraIssues, List<PlatformCustomFieldItemDTO> defaultTemplateCustomField) {
+		// prepare post process func param
+		List<PlatformBugDTO> needSyncBugs = new ArrayList<>();
+		SyncBugResult syncBugResult = new SyncBugResult();
+
+		for (JiraIssue jiraIssue : jiraIssues) {
+			// prepare attachment param
+			Map<String, String> jiraIssueAttachmentMap = new HashMap<>();
+			List attachments = (List) jiraIssue.getFields().get(JiraMetadataField.ATTACHMENT_NAME);
+			if (!CollectionUtils.isEmpty(attachments)) {
+				for (Object o : attachments) {
+					Map attachment = (Map) o;
+					jiraIssueAttachmentMap.put(attachment.get("filename").toString(), attachment.get("content").toString());
 				}
 			}
+			// transfer jira bug field to ms
+			PlatformBugDTO msBug = new PlatformBugDTO();
+			msBug.setId(UUID.randomUUID().toString());
+			msBug.setPlatformDefaultTemplate(true);
+			msBug.setPlatformBugId(jiraIssue.getKey());
+			syncJiraFieldToMsBug(msBug, jiraIssue, defaultTemplateCustomField, jiraIssueAttachmentMap);
+			// parse transition status
+			msBug.setStatus(parseTransitionStatus(msBug.getStatus(), jiraIssue.getKey()));
+			needSyncBugs.add(msBug);
+			// handle attachment
+			parseAttachmentToMsBug(syncBugResult, msBug, jiraIssueAttachmentMap);
+		}
 
-			// set post process func param
-			// common sync post param {syncBugs: all need sync bugs, attachmentMap: all bug attachment}
-			SyncPostParamRequest syncPostParamRequest = new SyncPostParamRequest();
-			syncPostParamRequest.setNeedSyncBugs(needSyncBugs);
-			syncPostParamRequest.setAttachmentMap(syncBugResult.getAttachmentMap());
-			request.getSyncPostProcessFunc().accept(syncPostParamRequest);
-			startAt += maxResults;
-		} while (currentSize >= maxResults);
+		// set post process func param
+		// common sync post param {syncBugs: all need sync bugs, attachmentMap: all bug attachment}
+		SyncPostParamRequest syncPostParamRequest = new SyncPostParamRequest();
+		syncPostParamRequest.setNeedSyncBugs(needSyncBugs);
+		syncPostParamRequest.setAttachmentMap(syncBugResult.getAttachmentMap());
+		return syncPostParamRequest;
 	}
 
 	/**
@@ -660,6 +992,17 @@ public class JiraPlatform extends AbstractPlatform {
 		jiraClient.getAttachmentContent(fileKey, inputStreamHandler);
 	}
 
+	/**
+	 * 下载附件到文件 (大附件断点续传)
+	 *
+	 * @param fileKey 附件地址
+	 * @param target  目标文件
+	 * @return 文件大小
+	 */
+	public long downloadAttachment(String fileKey, Path target) {
+		return jiraClient.downloadAttachment(fileKey, target);
+	}
+
 	/**
 	 * 获取指派人选项值
 	 *
@@ -807,6 +1150,105 @@ public class JiraPlatform extends AbstractPlatform {
 		return allIssues;
 	}
 
+	/**
+	 * 根据需求Key查询需求 (JQL: key in (...), 按批次查询)
+	 *
+	 * @param demandKeys 需求Key集合
+	 * @return 需求集合 (不存在或无权限的需求不会返回)
+	 */
+	private List<Map<String, Object>> queryDemandByKeys(List<String> demandKeys) {
+		List<Map<String, Object>> issues = new ArrayList<>();
+		List<String> keys = demandKeys.stream().filter(StringUtils::isNotBlank).distinct().toList();
+		// 由于Jira接口限制, 一次最多返回100条数据
+		int maxResult = 100;
+		for (int i = 0; i < keys.size(); i += maxResult) {
+			List<String> batchKeys = keys.subList(i, Math.min(i + maxResult, keys.size()));
+			String jql = "project = " + quoteJql(projectConfig.getJiraKey()) + " AND issuetype = " + quoteJql(projectConfig.getJiraDemandTypeId()) +
+					" AND key in (" + batchKeys.stream().map(this::quoteJql).collect(Collectors.joining(",")) + ")";
+			Map<String, Object> bodyMap = jiraClient.searchDemands(jql, 0, batchKeys.size());
+			if (bodyMap != null && bodyMap.get("issues") != null) {
+				issues.addAll((List<Map<String, Object>>) bodyMap.get("issues"));
+			}
+		}
+		return issues;
+	}
+
+	/**
+	 * 由Jira过滤及分页需求, 每页只请求一次
+	 *
+	 * @param request 需求请求参数
+	 * @return 插件分页返回
+	 */
+	private PluginPager<PlatformDemandDTO> searchDemand(DemandPageRequest request) {
+		String jql = buildDemandJql(request.getQuery(), request.getExcludeIds());
+		List<Map<String, Object>> issues = new ArrayList<>();
+		int total;
+		if (request.isSelectAll()) {
+			// 由于Jira接口限制, 一次最多返回100条数据
+			int maxResult = 100;
+			do {
+				Map<String, Object> bodyMap = jiraClient.searchDemands(jql, issues.size(), maxResult);
+				List<Map<String, Object>> pageIssues = bodyMap == null ? null : (List<Map<String, Object>>) bodyMap.get("issues");
+				if (CollectionUtils.isEmpty(pageIssues)) {
+					break;
+				}
+				issues.addAll(pageIssues);
+				total = ((Number) bodyMap.get("total")).intValue();
+			} while (issues.size() < total);
+			total = issues.size();
+		} else {
+			Map<String, Object> bodyMap = jiraClient.searchDemands(jql, (request.getStartPage() - 1) * request.getPageSize(), request.getPageSize());
+			if (bodyMap == null) {
+				return new PluginPager<>(new PlatformDemandDTO(), 0, request.getPageSize(), request.getStartPage());
+			}
+			if (bodyMap.get("issues") != null) {
+				issues.addAll((List<Map<String, Object>>) bodyMap.get("issues"));
+			}
+			total = ((Number) bodyMap.get("total")).intValue();
+		}
+		// 保持JQL的排序
+		PlatformDemandDTO response = new PlatformDemandDTO();
+		response.setList(issues.stream().map(this::buildDemand).collect(Collectors.toList()));
+		response.setCustomHeaders(new ArrayList<>());
+		return new PluginPager<>(response, total, request.isSelectAll() ? Integer.MAX_VALUE : request.getPageSize(), request.getStartPage());
+	}
+
+	/**
+	 * 构建需求查询JQL: 关键字匹配标题(全文检索)或需求Key, 排除已关联的需求, 按Key排序
+	 *
+	 * @param query      关键字
+	 * @param excludeIds 排除的需求Key
+	 * @return JQL
+	 */
+	private String buildDemandJql(String query, List<String> excludeIds) {
+		StringBuilder jql = new StringBuilder("project = ").append(quoteJql(projectConfig.getJiraKey()))
+				.append(" AND issuetype = ").append(quoteJql(projectConfig.getJiraDemandTypeId()));
+		if (StringUtils.isNotBlank(query)) {
+			String keyword = query.trim();
+			// 全文检索的保留字符需转义(JQL字符串中为两个反斜杠), 否则JQL报错; 引号及反斜杠对检索无意义, 直接替换为空格
+			String text = keyword.replaceAll("[\\\\\"]", StringUtils.SPACE).replaceAll("([+\\-&|!(){}\\[\\]^~*?:/])", "\\\\\\\\$1");
+			List<String> conditions = new ArrayList<>();
+			if (StringUtils.isNotBlank(text)) {
+				conditions.add("summary ~ \"" + text.trim() + "\"");
+			}
+			if (DEMAND_KEY_PATTERN.matcher(keyword).matches()) {
+				// Key格式不合法时JQL报错, 只在关键字形如Key时按Key查询
+				conditions.add("key = " + quoteJql(keyword.toUpperCase()));
+			}
+			if (!conditions.isEmpty()) {
+				jql.append(" AND (").append(String.join(" OR ", conditions)).append(")");
+			}
+		}
+		if (!CollectionUtils.isEmpty(excludeIds)) {
+			jql.append(" AND key not in (").append(excludeIds.stream().map(this::quoteJql).collect(Collectors.joining(","))).append(")");
+		}
+		return jql.append(" ORDER BY key ASC").toString();
+	}
+
+	private String quoteJql(String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
 	/**
 	 * 构建平台缺陷需求
 	 *
@@ -814,25 +1256,12 @@ public class JiraPlatform extends AbstractPlatform {
 	 * @param filterIds 过滤的需求ID
 	 * @return
 	 */
-	private PlatformDemandDTO buildPlatformDemand(List<Map<String, Object>> issues, List<String> filterIds, String query, List<String> excludeIds) {
+	private PlatformDemandDTO buildPlatformDemand(List<Map<String, Object>> issues, List<String> filterIds) {
 		// prepare custom headers
 		List<PlatformCustomFieldItemDTO> customHeaders = new ArrayList<>();
 		// prepare demand list
 		List<PlatformDemandDTO.Demand> demands = new ArrayList<>();
-		issues.forEach(issue -> {
-			// Jira目前只满足第一层级需求, 父子层级看后续需求
-			PlatformDemandDTO.Demand demand = new PlatformDemandDTO.Demand();
-			demand.setDemandId(issue.get("key").toString());
-			// noinspection unchecked
-			Map<String, Object> fieldMap = (Map<String, Object>) issue.get("fields");
-			demand.setDemandName(fieldMap.get("summary").toString());
-			demand.setDemandUrl(jiraClient.getBaseDemandUrl() + "/jira/software/projects/" + projectConfig.getJiraKey() + "/issues/" + issue.get("key").toString());
-			boolean isDemandShow = (StringUtils.isBlank(query) || StringUtils.containsIgnoreCase(demand.getDemandId(), query) || StringUtils.containsIgnoreCase(demand.getDemandName(), query)) &&
-					(CollectionUtils.isEmpty(excludeIds) || !excludeIds.contains(demand.getDemandId()));
-			if (isDemandShow) {
-				demands.add(demand);
-			}
-		});
+		issues.forEach(issue -> demands.add(buildDemand(issue)));
 		// sort by demand id
 		demands.sort(Comparator.comparing(PlatformDemandDTO.Demand::getDemandId));
 		// filter demand list by ids
@@ -847,6 +1276,37 @@ public class JiraPlatform extends AbstractPlatform {
 		return response;
 	}
 
+	/**
+	 * 构建需求
+	 *
+	 * @param issue Jira需求
+	 * @return 需求
+	 */
+	private PlatformDemandDTO.Demand buildDemand(Map<String, Object> issue) {
+		// Jira目前只满足第一层级需求, 父子层级看后续需求
+		PlatformDemandDTO.Demand demand = new PlatformDemandDTO.Demand();
+		demand.setDemandId(issue.get("key").toString());
+		// noinspection unchecked
+		Map<String, Object> fieldMap = (Map<String, Object>) issue.get("fields");
+		demand.setDemandName(fieldMap.get("summary").toString());
+		demand.setDemandUrl(jiraClient.getBaseDemandUrl() + "/jira/software/projects/" + projectConfig.getJiraKey() + "/issues/" + issue.get("key").toString());
+		return demand;
+	}
+
+	/**
+	 * 复制需求
+	 *
+	 * @param demand 需求
+	 * @return 需求副本
+	 */
+	private PlatformDemandDTO.Demand copyDemand(PlatformDemandDTO.Demand demand) {
+		PlatformDemandDTO.Demand copy = new PlatformDemandDTO.Demand();
+		copy.setDemandId(demand.getDemandId());
+		copy.setDemandName(demand.getDemandName());
+		copy.setDemandUrl(demand.getDemandUrl());
+		return copy;
+	}
+
 	/**
 	 * 获取项目配置
 	 *
@@ -1078,7 +1538,7 @@ public class JiraPlatform extends AbstractPlatform {
 							msDefaultValue = (String) defaultValue;
 						} else {
 							LocalDateTime defaultDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli((Long) defaultValue), ZoneId.systemDefault());
-							msDefaultValue = defaultDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+							msDefaultValue = defaultDateTime.format(UNIVERSAL_DATETIME_FORMATTER);
 						}
 					} else {
 						msDefaultValue = (String) defaultValue;
@@ -1497,13 +1957,16 @@ public class JiraPlatform extends AbstractPlatform {
 	}
 
 	/**
-	 * link jira issue
+	 * 构建关联事务请求
 	 *
-	 * @param issueLinkFields [0] issue link type, [1] issue link
-	 * @param issueKey        issue key
-	 * @param issueLinkTypes  issue link types
+	 * @param issueLinkFields 关联事务字段
+	 * @param issueKey        缺陷Key
+	 * @param issueLinkTypes  事务链接类型
+	 * @return 关联事务请求集合
 	 */
-	private void linkIssue(List<PlatformCustomFieldItemDTO> issueLinkFields, String issueKey, List<JiraIssueLinkTypeResponse.IssueLinkType> issueLinkTypes) {
+	private List<JiraIssueLinkRequest> buildIssueLinkRequests(List<PlatformCustomFieldItemDTO> issueLinkFields, String issueKey,
+															  List<JiraIssueLinkTypeResponse.IssueLinkType> issueLinkTypes) {
+		List<JiraIssueLinkRequest> issueLinkRequests = new ArrayList<>();
 		// 暂时只支持关联一组事务, 前台Form表单对多组事务关联关系的支持麻烦
 		PlatformCustomFieldItemDTO issueLinkType = issueLinkFields.get(0);
 		PlatformCustomFieldItemDTO issueLink = issueLinkFields.get(1);
@@ -1512,7 +1975,7 @@ public class JiraPlatform extends AbstractPlatform {
 			JiraIssueLinkTypeResponse.IssueLinkType attachType = issueLinkTypes.stream().filter(item -> StringUtils.equalsAny(type, item.getInward(), item.getOutward())).findFirst().get();
 			List<String> linkKeys = PluginUtils.parseArray(issueLink.getValue().toString(), String.class);
 			if (CollectionUtils.isEmpty(linkKeys)) {
-				return;
+				return issueLinkRequests;
 			}
 			linkKeys.forEach(linkKey -> {
 				JiraIssueLinkRequest issueLinkRequest = new JiraIssueLinkRequest();
@@ -1524,23 +1987,25 @@ public class JiraPlatform extends AbstractPlatform {
 					issueLinkRequest.setOutwardIssue(JiraIssueLinkRequest.JiraIssueLinkKey.builder().key(linkKey).build());
 					issueLinkRequest.setInwardIssue(JiraIssueLinkRequest.JiraIssueLinkKey.builder().key(issueKey).build());
 				}
-				jiraClient.linkIssue(issueLinkRequest);
+				issueLinkRequests.add(issueLinkRequest);
 			});
 		}
+		return issueLinkRequests;
 	}
 
 	/**
-	 * un-link jira issue
+	 * 对比缺陷现有的关联事务与编辑后的关联事务, 只删除不再需要的关联, 只新增缺少的关联
 	 *
-	 * @param issueKey issue-key
+	 * @param issueLinkFields [0] issue link type, [1] issue link
+	 * @param issueKey        缺陷Key
+	 * @param issueFields     缺陷当前字段 (包含 issuelinks)
 	 */
-	private void unLinkIssue(String issueKey) {
-		JiraIssue issue = jiraClient.getIssues(issueKey);
-		Map<String, Object> fields = issue.getFields();
-		if (fields.containsKey(JiraMetadataSpecialSystemField.ISSUE_LINKS)) {
-			List<Map<String, Object>> issueLinks = (List) fields.get(JiraMetadataSpecialSystemField.ISSUE_LINKS);
-			issueLinks.stream().map(item -> item.get("id").toString()).forEach(jiraClient::unLinkIssue);
-		}
+	private void reconcileIssueLinks(List<PlatformCustomFieldItemDTO> issueLinkFields, String issueKey, Map<String, Object> issueFields) {
+		List<Map<String, Object>> issueLinks = (List) issueFields.get(JiraMetadataSpecialSystemField.ISSUE_LINKS);
+		JiraIssueLinkDiff linkDiff = JiraIssueLinkDiff.of(issueKey, issueLinks,
+				buildIssueLinkRequests(issueLinkFields, issueKey, jiraClient.getIssueLinkType()));
+		jiraClient.unLinkIssues(linkDiff.staleLinkIds());
+		jiraClient.linkIssues(linkDiff.newLinks());
 	}
 
 	/**
@@ -1549,42 +2014,120 @@ public class JiraPlatform extends AbstractPlatform {
 	 * @return 选项数据映射集合
 	 */
 	private Map<String, String> prepareOptionData() {
-		Map<String, String> optionData = new HashMap<>();
+		String jiraKey = projectConfig.getJiraKey();
+		// 各选项接口互不依赖, 并发请求, 总耗时取决于最慢的接口而不是所有接口之和
+		Map<JiraOptionKey, Future<List<SelectOption>>> optionFutures = new LinkedHashMap<>();
 		// Jira用户下拉选项
-		optionData.put(JiraOptionKey.USER.name(), PluginUtils.toJSONString(getUserSearchOptions(StringUtils.EMPTY)));
+		optionFutures.put(JiraOptionKey.USER, loadOptionAsync(() -> getUserSearchOptions(StringUtils.EMPTY)));
 		// Jira自定义Sprint选项
-		List<JiraSprint> sprints = jiraClient.getSprint(null);
-		List<SelectOption> sprintOptions = new ArrayList<>();
-		sprints.forEach(sprint -> sprintOptions.add(new SelectOption(StringUtils.join(sprint.getName(), " (", sprint.getBoardName(), ")"), sprint.getId().toString())));
-		optionData.put(JiraOptionKey.SPRINT.name(), PluginUtils.toJSONString(sprintOptions));
+		optionFutures.put(JiraOptionKey.SPRINT, loadOptionAsync(() -> {
+			List<JiraSprint> sprints = jiraClient.getSprint(null);
+			List<SelectOption> sprintOptions = new ArrayList<>();
+			sprints.forEach(sprint -> sprintOptions.add(new SelectOption(StringUtils.join(sprint.getName(), " (", sprint.getBoardName(), ")"), sprint.getId().toString())));
+			return sprintOptions;
+		}));
 		// Jira自定义Epic选项
-		List<JiraEpic> epics = jiraClient.getEpics(projectConfig.getJiraKey());
-		List<SelectOption> epicOptions = new ArrayList<>();
-		epics.forEach(epic -> epicOptions.add(new SelectOption(epic.getName(), epic.getKey())));
-		optionData.put(JiraOptionKey.EPIC.name(), PluginUtils.toJSONString(epicOptions));
+		optionFutures.put(JiraOptionKey.EPIC, loadOptionAsync(() -> {
+			List<JiraEpic> epics = jiraClient.getEpics(jiraKey);
+			List<SelectOption> epicOptions = new ArrayList<>();
+			epics.forEach(epic -> epicOptions.add(new SelectOption(epic.getName(), epic.getKey())));
+			return epicOptions;
+		}));
 		// 获取Jira指派人选项
-		optionData.put(JiraOptionKey.ASSIGN.name(), PluginUtils.toJSONString(getAssignableOptions(projectConfig.getJiraKey(), null)));
+		optionFutures.put(JiraOptionKey.ASSIGN, loadOptionAsync(() -> getAssignableOptions(jiraKey, null)));
 		// 获取Jira关联事务选项
-		optionData.put(JiraOptionKey.ISSUE_LINK.name(), PluginUtils.toJSONString(getIssueLinkOptions(null, null)));
-		optionData.put(JiraOptionKey.ISSUE_LINK_TYPE.name(), PluginUtils.toJSONString(getIssueLinkTypeOptions()));
+		optionFutures.put(JiraOptionKey.ISSUE_LINK, loadOptionAsync(() -> getIssueLinkOptions(null, null)));
+		optionFutures.put(JiraOptionKey.ISSUE_LINK_TYPE, loadOptionAsync(this::getIssueLinkTypeOptions));
+
+		// 所有选项共用一个超时期限, 超时的请求取消后返回空选项
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(JiraPluginConfig.OPTION_TIMEOUT_MS);
+		Map<String, String> optionData = new HashMap<>();
+		optionFutures.forEach((optionKey, future) -> optionData.put(optionKey.name(), PluginUtils.toJSONString(getOptionResult(optionKey, future, deadline))));
 		return optionData;
 	}
 
+	/**
+	 * 异步加载选项, 并发数受 {@link JiraPluginConfig#OPTION_MAX_CONCURRENCY} 限制
+	 *
+	 * @param loader 选项加载方法
+	 * @return 选项结果
+	 */
+	private Future<List<SelectOption>> loadOptionAsync(Supplier<List<SelectOption>> loader) {
+		try {
+			return optionExecutor.submit(() -> {
+				OPTION_PERMITS.acquire();
+				try {
+					return loader.get();
+				} finally {
+					OPTION_PERMITS.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// 插件停止中
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * 获取选项加载结果, 超时或失败时返回空选项, 避免单个接口拖慢整个模板加载
+	 * <p>
+	 * 超时后取消任务: 中断虚拟线程会关闭其阻塞中的连接, 请求随之终止, 不再占用连接和并发数
+	 *
+	 * @param optionKey 选项Key
+	 * @param future    选项结果
+	 * @param deadline  超时期限(System.nanoTime)
+	 * @return 选项集合
+	 */
+	private List<SelectOption> getOptionResult(JiraOptionKey optionKey, Future<List<SelectOption>> future, long deadline) {
+		try {
+			return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			PluginLogUtils.error(e.getCause());
+		}
+		PluginLogUtils.info("jira option " + optionKey.name() + " unavailable, use empty options");
+		return new ArrayList<>();
+	}
+
+	/**
+	 * 获取同步需要查询的Jira字段 (基础字段 + 模板字段 + 缺陷配置的同步字段)
+	 *
+	 * @param templateFields 默认模板字段集合
+	 * @param bugs           同步的缺陷集合
+	 * @return 字段集合
+	 */
+	private List<String> getSyncFields(List<PlatformCustomFieldItemDTO> templateFields, List<PlatformBugDTO> bugs) {
+		Set<String> fields = new LinkedHashSet<>(SYNC_BASE_FIELDS);
+		if (!CollectionUtils.isEmpty(templateFields)) {
+			templateFields.forEach(field -> fields.add(field.getCustomData()));
+		}
+		if (!CollectionUtils.isEmpty(bugs)) {
+			bugs.stream().filter(bug -> !CollectionUtils.isEmpty(bug.getNeedSyncCustomFields()))
+					.forEach(bug -> bug.getNeedSyncCustomFields().forEach(field -> fields.add(field.getCustomData())));
+		}
+		fields.removeIf(StringUtils::isBlank);
+		return new ArrayList<>(fields);
+	}
+
 	/**
 	 * 同步Jira字段到平台缺陷字段
 	 *
-	 * @param msBug                 平台缺陷
-	 * @param jiraIssue             jira缺陷
-	 * @param defaultTemplateFields 默认模板字段集合
+	 * @param msBug          平台缺陷
+	 * @param jiraIssue      jira缺陷
+	 * @param templateFields 缺陷模板的字段原型集合
 	 */
-	private void syncJiraFieldToMsBug(PlatformBugDTO msBug, JiraIssue jiraIssue, List<PlatformCustomFieldItemDTO> defaultTemplateFields, Map<String, String> jiraIssueAttachmentMap) {
+	private void syncJiraFieldToMsBug(PlatformBugDTO msBug, JiraIssue jiraIssue, List<PlatformCustomFieldItemDTO> templateFields, Map<String, String> jiraIssueAttachmentMap) {
 		try {
 			// 下载的富文本文件集合
 			Map<String, String> richFileMap = new HashMap<>(16);
 			// 处理基础字段
 			parseBaseFieldToMsBug(msBug, jiraIssue.getFields(), jiraIssueAttachmentMap, richFileMap);
 			// 处理自定义字段
-			parseCustomFieldToMsBug(msBug, jiraIssue.getFields(), defaultTemplateFields, jiraIssueAttachmentMap, richFileMap);
+			parseCustomFieldToMsBug(msBug, jiraIssue.getFields(), templateFields, jiraIssueAttachmentMap, richFileMap);
 			// 设置富文本集合
 			msBug.setRichTextImageMap(richFileMap);
 		} catch (Exception e) {
@@ -1620,30 +2163,22 @@ public class JiraPlatform extends AbstractPlatform {
 		msBug.setStatus(getFieldStatus(jiraFieldMap));
 		msBug.setCreateUser("admin");
 		msBug.setUpdateUser("admin");
-		msBug.setCreateTime(sdfWithZone.parse((String) jiraFieldMap.get("created")).getTime());
-		msBug.setUpdateTime(sdfWithZone.parse((String) jiraFieldMap.get("updated")).getTime());
+		msBug.setCreateTime(ISSUE_TIME_PARSER.parse((String) jiraFieldMap.get("created")));
+		msBug.setUpdateTime(ISSUE_TIME_PARSER.parse((String) jiraFieldMap.get("updated")));
 	}
 
 	/**
 	 * 解析自定义字段到平台缺陷字段
 	 *
-	 * @param msBug                 平台缺陷
-	 * @param jiraFieldMap          jira字段集合
-	 * @param defaultTemplateFields 默认模板字段集合
+	 * @param msBug          平台缺陷
+	 * @param jiraFieldMap   jira字段集合
+	 * @param templateFields 缺陷模板的字段原型集合
 	 */
-	private void parseCustomFieldToMsBug(PlatformBugDTO msBug, Map jiraFieldMap, List<PlatformCustomFieldItemDTO> defaultTemplateFields,
+	private void parseCustomFieldToMsBug(PlatformBugDTO msBug, Map jiraFieldMap, List<PlatformCustomFieldItemDTO> templateFields,
 										 Map<String, String> jiraIssueAttachmentMap, Map<String, String> richFileMap) {
-		List<PlatformCustomFieldItemDTO> needSyncCustomFields = new ArrayList<>();
-		if (isSupportDefaultTemplate() && msBug.getPlatformDefaultTemplate()) {
-			// 缺陷使用的平台默认模板, 使用平台默认模板字段
-			for (PlatformCustomFieldItemDTO field : defaultTemplateFields) {
-				needSyncCustomFields.add(SerializationUtils.clone(field));
-			}
-		} else {
-			// 缺陷使用的非平台默认模板, 使用模板中配置的映射字段
-			for (PlatformCustomFieldItemDTO field : msBug.getNeedSyncCustomFields()) {
-				needSyncCustomFields.add(SerializationUtils.clone(field));
-			}
+		List<PlatformCustomFieldItemDTO> needSyncCustomFields = new ArrayList<>(templateFields.size());
+		for (PlatformCustomFieldItemDTO field : templateFields) {
+			needSyncCustomFields.add(copyCustomField(field));
 		}
 		if (CollectionUtils.isEmpty(needSyncCustomFields)) {
 			return;
@@ -1691,6 +2226,37 @@ public class JiraPlatform extends AbstractPlatform {
 		msBug.setCustomFieldList(needSyncCustomFields);
 	}
 
+	/**
+	 * 构建同步用的模板字段原型 (只保留同步用到的属性)
+	 *
+	 * @param fields 模板字段
+	 * @return 字段原型集合
+	 */
+	private List<PlatformCustomFieldItemDTO> buildSyncTemplateFields(List<PlatformCustomFieldItemDTO> fields) {
+		if (CollectionUtils.isEmpty(fields)) {
+			return List.of();
+		}
+		return fields.stream().map(this::copyCustomField).toList();
+	}
+
+	/**
+	 * 复制模板字段 (同步时只改写字段值, 只复制不变的字段属性及字段值)
+	 *
+	 * @param field 模板字段
+	 * @return 字段副本
+	 */
+	private PlatformCustomFieldItemDTO copyCustomField(PlatformCustomFieldItemDTO field) {
+		PlatformCustomFieldItemDTO copyField = new PlatformCustomFieldItemDTO();
+		copyField.setId(field.getId());
+		copyField.setName(field.getName());
+		copyField.setCustomData(field.getCustomData());
+		copyField.setType(field.getType());
+		copyField.setSupportSearch(field.getSupportSearch());
+		copyField.setSearchMethod(field.getSearchMethod());
+		copyField.setValue(field.getValue());
+		return copyField;
+	}
+
 	/**
 	 * 只处理需要同步的特殊字段
 	 *
@@ -1859,11 +2425,8 @@ public class JiraPlatform extends AbstractPlatform {
 		if (!input.contains("T")) {
 			return input;
 		}
-		DateTimeFormatter inputFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
-		DateTimeFormatter outputFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-		OffsetDateTime offsetDateTime = OffsetDateTime.parse(input, inputFormatter);
-		return offsetDateTime.format(outputFormatter);
+		OffsetDateTime offsetDateTime = OffsetDateTime.parse(input, JIRA_DATETIME_FORMATTER);
+		return offsetDateTime.format(UNIVERSAL_DATETIME_FORMATTER);
 	}
 
 	/**
@@ -1903,19 +2466,16 @@ public class JiraPlatform extends AbstractPlatform {
 	/**
 	 * 解析状态Transition值
 	 *
-	 * @param transitions 状态Transition集合
-	 * @param status      状态值
+	 * @param status   状态值
+	 * @param issueKey 缺陷Key (当前状态的流转未缓存时用于查询)
 	 * @return 状态值
 	 */
-	private String parseTransitionStatus(List<JiraTransitionsResponse.Transitions> transitions, String status) {
-		if (!CollectionUtils.isEmpty(transitions)) {
-			JiraTransitionsResponse.Transitions transition = transitions.stream().filter(item -> StringUtils.equals(item.getTo().getId(),
-					status)).findFirst().orElse(null);
-			if (transition != null) {
-				return transition.getId();
-			}
+	private String parseTransitionStatus(String status, String issueKey) {
+		if (StringUtils.isBlank(status)) {
+			return status;
 		}
-		return status;
+		String transitionId = jiraClient.getTransitionIdToStatus(projectConfig.getJiraKey(), projectConfig.getJiraBugTypeId(), status, issueKey);
+		return transitionId == null ? status : transitionId;
 	}
 
 	/**
@@ -1938,51 +2498,74 @@ public class JiraPlatform extends AbstractPlatform {
 		if (StringUtils.isBlank(content)) {
 			return null;
 		}
-		String sourceRegex = "(<img src=\"" + MS_RICH_TEXT_PREVIEW_SRC_PREFIX + "/)(.*?)(\")";
-		StringBuilder jiraRichText = new StringBuilder();
-		String[] splitText = content.split(">");
-		for (String split : splitText) {
-			String replaceText = "";
-			if (split.contains("<img") && split.contains("http")) {
+		StringBuilder jiraRichText = new StringBuilder(content.length());
+		// 本地图片补充psrc后的MS富文本, 没有改动时为空
+		StringBuilder msRichText = null;
+		int copyIndex = 0;
+		// 按 '>' 逐段扫描, 末尾的空片段忽略 (同 String.split)
+		int end = content.length();
+		while (end > 0 && content.charAt(end - 1) == '>') {
+			end--;
+		}
+		int imgIndex = content.indexOf("<img");
+		int start = 0;
+		while (start < end) {
+			int splitEnd = content.indexOf('>', start);
+			if (splitEnd < 0) {
+				splitEnd = end;
+			}
+			if (imgIndex >= 0 && imgIndex < start) {
+				imgIndex = content.indexOf("<img", start);
+			}
+			if (imgIndex < 0 || imgIndex >= splitEnd) {
+				// 非图片片段原样输出
+				jiraRichText.append(content, start, splitEnd).append('>');
+				start = splitEnd + 1;
+				continue;
+			}
+			String split = content.substring(start, splitEnd);
+			if (split.contains("http")) {
 				// ms-httpUrl: <img src="http-url"> => !http-url|width=!
-				String msHttpUrl = split.substring(split.indexOf("permalinksrc=") + 13).replaceAll("\"", StringUtils.EMPTY).replaceAll(StringUtils.SPACE, StringUtils.EMPTY);
-				replaceText = "!" + msHttpUrl + "|width=1360,height=876!";
-			} else if (split.contains("<img") && !split.contains("http")) {
+				String msHttpUrl = StringUtils.remove(StringUtils.remove(split.substring(split.indexOf("permalinksrc=") + 13), '"'), ' ');
+				jiraRichText.append('!').append(msHttpUrl).append("|width=1360,height=876!");
+			} else if (split.contains("psrc")) {
 				// ms-localUrl: <img src="local-url" psrc="!jira-pic-name!">
-				// local-url match by source-regex
-				if (split.contains("psrc")) {
-					// include psrc, split it then append the jira text
-					String jiraLocalUrl = split.substring(split.indexOf("psrc=") + 5).replaceAll("\"", StringUtils.EMPTY).replaceAll(StringUtils.SPACE, StringUtils.EMPTY);
-					Matcher matcher = Pattern.compile(sourceRegex).matcher(split);
-					while (matcher.find()) {
-						String group = matcher.group(0);
-						String msLocalUrl = group.substring(group.indexOf("<img src=") + 9).replaceAll("\"", StringUtils.EMPTY).replaceAll(StringUtils.SPACE, StringUtils.EMPTY);
-						replaceText = "!" + jiraLocalUrl + "|width=1360,height=876,alt=\'" + msLocalUrl + "\'!";
-						remainImgNameFromRichText.add(jiraLocalUrl);
-						msFileMap.remove(split.substring(split.indexOf("fileid") + 7, split.indexOf("permalinksrc=")).replaceAll("\"", StringUtils.EMPTY).trim());
-					}
-				} else {
-					// ms-localUrl => !image-20240319-113551.png|alt=!
-					String msLocalUrl = split.substring(split.indexOf("permalinksrc=") + 13).replaceAll("\"", StringUtils.EMPTY);
-					String fileId = split.substring(split.indexOf("fileid") + 7, split.indexOf("permalinksrc="))
-							.replaceAll("\"", StringUtils.EMPTY).replaceAll(StringUtils.SPACE, StringUtils.EMPTY);
-					if (msFileMap.containsKey(fileId)) {
-						// rename ms image to jira  (rules: image-20201015-110015-uid.jpg)
-						String fileName = "image-" + UUID.randomUUID().toString() + ".jpg";
-						File sourceFile = msFileMap.get(fileId);
-						File targetFile = new File(sourceFile.getParent(), fileName);
-						sourceFile.renameTo(targetFile);
-						msFileMap.put(fileId, targetFile);
-						replaceText = "!" + fileName + "|width=1360,height=876,alt=\'" + msLocalUrl + "\'!";
-						content = content.replaceAll(split, split + " psrc=\"" + fileName + "\"");
-					}
+				// local-url match by source-regex, include psrc, split it then append the jira text
+				String jiraLocalUrl = StringUtils.remove(StringUtils.remove(split.substring(split.indexOf("psrc=") + 5), '"'), ' ');
+				String replaceText = StringUtils.EMPTY;
+				Matcher matcher = MS_RICH_TEXT_LOCAL_IMG_PATTERN.matcher(split);
+				while (matcher.find()) {
+					String group = matcher.group(0);
+					String msLocalUrl = StringUtils.remove(StringUtils.remove(group.substring(group.indexOf("<img src=") + 9), '"'), ' ');
+					replaceText = "!" + jiraLocalUrl + "|width=1360,height=876,alt=\'" + msLocalUrl + "\'!";
+					remainImgNameFromRichText.add(jiraLocalUrl);
+					msFileMap.remove(StringUtils.remove(split.substring(split.indexOf("fileid") + 7, split.indexOf("permalinksrc=")), '"').trim());
 				}
+				jiraRichText.append(replaceText);
 			} else {
-				replaceText = split + ">";
+				// ms-localUrl => !image-20240319-113551.png|alt=!
+				String msLocalUrl = StringUtils.remove(split.substring(split.indexOf("permalinksrc=") + 13), '"');
+				String fileId = StringUtils.remove(StringUtils.remove(split.substring(split.indexOf("fileid") + 7, split.indexOf("permalinksrc=")), '"'), ' ');
+				if (msFileMap.containsKey(fileId)) {
+					// rename ms image to jira by content (rules: image-{sha256}.jpg), the same image keeps its attachment
+					File sourceFile = msFileMap.get(fileId);
+					String fileName = "image-" + FileDigestUtils.sha256Hex(sourceFile).substring(0, 32) + ".jpg";
+					File targetFile = new File(sourceFile.getParent(), fileName);
+					sourceFile.renameTo(targetFile);
+					msFileMap.put(fileId, targetFile);
+					remainImgNameFromRichText.add(fileName);
+					jiraRichText.append('!').append(fileName).append("|width=1360,height=876,alt=\'").append(msLocalUrl).append("\'!");
+					// 原图片标签后补充psrc
+					if (msRichText == null) {
+						msRichText = new StringBuilder(content.length() + 64);
+					}
+					msRichText.append(content, copyIndex, splitEnd).append(" psrc=\"").append(fileName).append('"');
+					copyIndex = splitEnd;
+				}
 			}
-			jiraRichText.append(replaceText);
+			start = splitEnd + 1;
 		}
-		platformCustomFieldMap.put(key, content);
+		platformCustomFieldMap.put(key, msRichText == null ? content : msRichText.append(content, copyIndex, content.length()).toString());
 		return jiraRichText.toString();
 	}
 
@@ -2003,38 +2586,59 @@ public class JiraPlatform extends AbstractPlatform {
 		if (StringUtils.isBlank(content)) {
 			return null;
 		}
-		StringBuilder msRichText = new StringBuilder();
-		String[] splitText = content.split("!(.*?)");
-		for (String split : splitText) {
-			String replaceText = "";
-			if (split.startsWith("http")) {
+		StringBuilder msRichText = new StringBuilder(content.length());
+		// 按 '!' 逐段扫描, 末尾的空片段忽略 (同 String.split)
+		int end = content.length();
+		while (end > 0 && content.charAt(end - 1) == '!') {
+			end--;
+		}
+		// 下一个 "|width" 及 '|' 的位置, 扫描位置越过后才重新查找, 没有 '|' 的长文本不会每段都扫描到末尾
+		int widthIndex = content.indexOf("|width");
+		int nextPipe = content.indexOf('|');
+		int start = 0;
+		while (start < end) {
+			int splitEnd = content.indexOf('!', start);
+			if (splitEnd < 0) {
+				splitEnd = end;
+			}
+			if (widthIndex >= 0 && widthIndex < start) {
+				widthIndex = content.indexOf("|width", start);
+			}
+			if (nextPipe >= 0 && nextPipe < start) {
+				nextPipe = content.indexOf('|', start);
+			}
+			int pipeIndex = nextPipe < 0 || nextPipe > splitEnd ? splitEnd : nextPipe;
+			if (content.startsWith("http", start)) {
 				// jiraHttpUrl: !https://pic.com/1.jpeg|width=1360,height=876! => <img src="http-url">
-				String httpSrcUrl = split.split("\\|")[0];
-				replaceText = "<img src=\"" + httpSrcUrl + "\" permalinksrc=\"" + httpSrcUrl + "\" >";
-			} else if (split.contains("|width")) {
+				String httpSrcUrl = content.substring(start, pipeIndex);
+				msRichText.append("<img src=\"").append(httpSrcUrl).append("\" permalinksrc=\"").append(httpSrcUrl).append("\" >");
+			} else if (widthIndex >= 0 && widthIndex < splitEnd) {
 				// jiraLocalUrl => msLocalUrl
 				// !image-202020-173612.jpg|width=1360,height=876,alt='/bug/attachment/preview/md/pid/fid/true'!
 				// !image-202020-173612.jpg|width=1360,height=876
-				String localJiraSrcUrl = split.split("\\|")[0];
+				String localJiraSrcUrl = content.substring(start, pipeIndex);
 				String fileKey = "";
 				if (jiraIssueAttachmentMap.containsKey(localJiraSrcUrl)) {
 					fileKey = jiraIssueAttachmentMap.get(localJiraSrcUrl);
 					jiraIssueAttachmentMap.remove(localJiraSrcUrl);
 				}
-				String localMsSrcUrl = split.split("\\|")[1];
+				int nextPipeIndex = content.indexOf('|', pipeIndex + 1);
+				if (nextPipeIndex < 0 || nextPipeIndex > splitEnd) {
+					nextPipeIndex = splitEnd;
+				}
+				String localMsSrcUrl = content.substring(pipeIndex + 1, nextPipeIndex);
 				if (StringUtils.contains(localMsSrcUrl, "alt=\"\'" + MS_RICH_TEXT_PREVIEW_SRC_PREFIX)) {
-					String altLocalMsUrl = localMsSrcUrl.substring(localMsSrcUrl.indexOf("alt=") + 4)
-							.replaceAll("\'", StringUtils.EMPTY).replaceAll("\"", StringUtils.EMPTY);
-					replaceText = "<img src=\"" + altLocalMsUrl + "\" psrc=\"" + localJiraSrcUrl + "\" >";
+					String altLocalMsUrl = StringUtils.remove(StringUtils.remove(localMsSrcUrl.substring(localMsSrcUrl.indexOf("alt=") + 4), '\''), '"');
+					msRichText.append("<img src=\"").append(altLocalMsUrl).append("\" psrc=\"").append(localJiraSrcUrl).append("\" >");
 				} else {
 					// set field key to alt, for ms download and replace it
-					replaceText = "<img alt=\"" + fileKey + "\" psrc=\"" + localJiraSrcUrl + "\" >";
+					msRichText.append("<img alt=\"").append(fileKey).append("\" psrc=\"").append(localJiraSrcUrl).append("\" >");
 					richFileMap.put(fileKey, localJiraSrcUrl);
 				}
 			} else {
-				replaceText = split;
+				msRichText.append(content, start, splitEnd);
 			}
-			msRichText.append(replaceText);
+			start = splitEnd + 1;
 		}
 		return msRichText.toString();
 	}
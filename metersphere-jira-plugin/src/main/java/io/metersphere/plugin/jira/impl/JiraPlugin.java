@@ -1,6 +1,10 @@
 package io.metersphere.plugin.jira.impl;
 
 
+import io.metersphere.plugin.common.utils.BackgroundTaskExecutor;
+import io.metersphere.plugin.jira.client.JiraClientRegistry;
+import io.metersphere.plugin.jira.client.JiraOutbox;
+import io.metersphere.plugin.jira.constants.JiraPluginConfig;
 import io.metersphere.plugin.platform.spi.AbstractPlatformPlugin;
 
 /**
@@ -31,4 +35,25 @@ public class JiraPlugin extends AbstractPlatformPlugin {
     public String getLogo() {
         return LOGO_PATH;
     }
+
+    @Override
+    public void start() {
+        super.start();
+        BackgroundTaskExecutor.start("jira", JiraPluginConfig.TASK_THREADS, JiraPluginConfig.TASK_QUEUE_CAPACITY,
+                JiraPluginConfig.TASK_TIMEOUT_SECONDS, JiraPluginConfig.TASK_SHUTDOWN_WAIT_SECONDS);
+        JiraPlatform.startOptionExecutor();
+        // 恢复上次未完成的后台任务
+        JiraOutbox.start();
+    }
+
+    @Override
+    public void stop() {
+        // 停止分发后台任务, 等待执行中的任务完成后关闭日志, 再释放所有客户端连接池
+        JiraOutbox.shutdown();
+        BackgroundTaskExecutor.shutdown();
+        JiraOutbox.close();
+        JiraPlatform.shutdownOptionExecutor();
+        JiraClientRegistry.closeAll();
+        super.stop();
+    }
 }
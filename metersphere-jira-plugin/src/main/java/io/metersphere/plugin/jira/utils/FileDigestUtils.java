@@ -0,0 +1,71 @@
+package io.metersphere.plugin.jira.utils;
+
+import io.metersphere.plugin.sdk.util.MSPluginException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 文件内容摘要 (流式计算, 不整体加载到内存)
+ */
+public class FileDigestUtils {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * 计算文件的 SHA-256
+	 *
+	 * @param file 文件
+	 * @return 十六进制摘要
+	 */
+	public static String sha256Hex(File file) {
+		try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+			return sha256Hex(inputStream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 计算字符串(UTF-8)的 SHA-256
+	 *
+	 * @param text 字符串
+	 * @return 十六进制摘要
+	 */
+	public static String sha256Hex(String text) {
+		try {
+			return sha256Hex(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 计算输入流的 SHA-256 (不关闭输入流)
+	 *
+	 * @param inputStream 输入流
+	 * @return 十六进制摘要
+	 */
+	public static String sha256Hex(InputStream inputStream) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new MSPluginException(e);
+		}
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			digest.update(buffer, 0, read);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+}
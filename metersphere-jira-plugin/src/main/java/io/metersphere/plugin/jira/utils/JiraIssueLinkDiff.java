@@ -0,0 +1,51 @@
+package io.metersphere.plugin.jira.utils;
+
+import io.metersphere.plugin.jira.domain.JiraIssueLinkRequest;
+
+import java.util.*;
+
+/**
+ * 缺陷关联事务的差异 (现有关联与编辑后关联对比)
+ *
+ * @param staleLinkIds 不再需要的现有关联ID
+ * @param newLinks     需要新增的关联
+ */
+public record JiraIssueLinkDiff(List<String> staleLinkIds, List<JiraIssueLinkRequest> newLinks) {
+
+	/**
+	 * 对比现有关联与编辑后的关联, 同一类型且两端相同的关联视为已存在
+	 *
+	 * @param issueKey     缺陷Key
+	 * @param issueLinks   缺陷当前的 issuelinks 字段
+	 * @param desiredLinks 编辑后的关联
+	 * @return 差异
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static JiraIssueLinkDiff of(String issueKey, List<Map<String, Object>> issueLinks, List<JiraIssueLinkRequest> desiredLinks) {
+		// 现有关联: 类型ID|inward|outward -> 关联ID
+		Map<String, String> currentLinks = new LinkedHashMap<>();
+		if (issueLinks != null) {
+			for (Map<String, Object> issueLink : issueLinks) {
+				String typeId = ((Map) issueLink.get("type")).get("id").toString();
+				// outwardIssue 存在时当前缺陷为 inward 一方, 反之为 outward 一方
+				Map outwardIssue = (Map) issueLink.get("outwardIssue");
+				String linkKey = outwardIssue != null ? getLinkKey(typeId, issueKey, outwardIssue.get("key").toString()) :
+						getLinkKey(typeId, ((Map) issueLink.get("inwardIssue")).get("key").toString(), issueKey);
+				currentLinks.putIfAbsent(linkKey, issueLink.get("id").toString());
+			}
+		}
+		List<JiraIssueLinkRequest> newLinks = new ArrayList<>();
+		for (JiraIssueLinkRequest linkRequest : desiredLinks) {
+			String linkKey = getLinkKey(linkRequest.getType().getId(), linkRequest.getInwardIssue().getKey(), linkRequest.getOutwardIssue().getKey());
+			if (currentLinks.remove(linkKey) == null) {
+				newLinks.add(linkRequest);
+			}
+		}
+		// 剩余的现有关联不再需要
+		return new JiraIssueLinkDiff(new ArrayList<>(currentLinks.values()), newLinks);
+	}
+
+	private static String getLinkKey(String typeId, String inwardKey, String outwardKey) {
+		return String.join("|", typeId, inwardKey, outwardKey);
+	}
+}
@@ -0,0 +1,85 @@
+package io.metersphere.plugin.jira.utils;
+
+import io.metersphere.plugin.sdk.util.PluginLogUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 基于本地 properties 文件的增量同步水位存储
+ * <p>
+ * 先写临时文件再原子替换, 进程中途退出不会损坏已有水位.
+ */
+public class LocalFileSyncWatermarkStore implements SyncWatermarkStore {
+
+	private final Path file;
+
+	private final Properties watermarks = new Properties();
+
+	private boolean loaded;
+
+	public LocalFileSyncWatermarkStore(Path file) {
+		this.file = file;
+	}
+
+	@Override
+	public synchronized Long get(String key) {
+		load();
+		String value = watermarks.getProperty(key);
+		return StringUtils.isNumeric(value) ? Long.valueOf(value) : null;
+	}
+
+	@Override
+	public synchronized void save(String key, long watermark) {
+		load();
+		watermarks.setProperty(key, String.valueOf(watermark));
+		Path tempFile = null;
+		try {
+			Path dir = file.toAbsolutePath().getParent();
+			Files.createDirectories(dir);
+			tempFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+			try (OutputStream out = Files.newOutputStream(tempFile)) {
+				watermarks.store(out, "MeterSphere Jira plugin sync watermarks");
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			tempFile = null;
+		} catch (IOException e) {
+			// 水位保存失败只影响下次同步的范围(退化为更大范围的同步), 不中断本次同步
+			PluginLogUtils.error(e);
+		} finally {
+			deleteQuietly(tempFile);
+		}
+	}
+
+	private void deleteQuietly(Path tempFile) {
+		if (tempFile == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(tempFile);
+		} catch (IOException e) {
+			PluginLogUtils.error(e);
+		}
+	}
+
+	private void load() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		if (!Files.exists(file)) {
+			return;
+		}
+		try (InputStream in = Files.newInputStream(file)) {
+			watermarks.load(in);
+		} catch (IOException e) {
+			PluginLogUtils.error(e);
+		}
+	}
+}
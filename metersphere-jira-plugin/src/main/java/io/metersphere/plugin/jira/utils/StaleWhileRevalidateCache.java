@@ -0,0 +1,162 @@
+package io.metersphere.plugin.jira.utils;
+
+import io.metersphere.plugin.sdk.util.PluginLogUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 过期后先返回旧值再后台刷新的本地缓存 (stale-while-revalidate)
+ * <p>
+ * 超过软过期时间的缓存直接返回旧值, 同时提交一次后台刷新; 超过硬过期时间的缓存同步加载.
+ * 加载方法在失败时应抛出异常而不是返回空值, 失败结果不会被缓存: 有旧值时继续返回旧值, 没有旧值时异常抛给调用方.
+ * 按最近访问顺序淘汰, 超过容量时移除最久未访问的缓存.
+ *
+ * @param <K> 缓存Key
+ * @param <V> 缓存值
+ */
+public class StaleWhileRevalidateCache<K, V> {
+
+	private final Map<K, Entry<V>> entries;
+
+	private final long softTtlMillis;
+
+	private final long hardTtlMillis;
+
+	private final Executor refreshExecutor;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder refreshCount = new LongAdder();
+
+	/**
+	 * @param maxSize         最大缓存数量
+	 * @param softTtlMillis   软过期时间, 超过后后台刷新
+	 * @param hardTtlMillis   硬过期时间, 超过后同步加载
+	 * @param refreshExecutor 后台刷新线程池
+	 */
+	public StaleWhileRevalidateCache(int maxSize, long softTtlMillis, long hardTtlMillis, Executor refreshExecutor) {
+		this.softTtlMillis = softTtlMillis;
+		this.hardTtlMillis = Math.max(softTtlMillis, hardTtlMillis);
+		this.refreshExecutor = refreshExecutor;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * 获取缓存
+	 *
+	 * @param key    缓存Key
+	 * @param loader 加载方法
+	 * @return 缓存值
+	 */
+	public V get(K key, Supplier<V> loader) {
+		Entry<V> entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		long now = System.currentTimeMillis();
+		if (entry == null || now - entry.loadTime > hardTtlMillis) {
+			missCount.increment();
+			V value;
+			try {
+				value = loader.get();
+			} catch (RuntimeException e) {
+				if (entry == null) {
+					throw e;
+				}
+				// 加载失败时继续使用旧值, 不缓存失败结果, 下次访问时重试
+				PluginLogUtils.error(e);
+				return entry.value;
+			}
+			put(key, new Entry<>(value, System.currentTimeMillis()));
+			return value;
+		}
+		hitCount.increment();
+		if (now - entry.loadTime > softTtlMillis && entry.refreshing.compareAndSet(false, true)) {
+			refreshAsync(key, entry, loader);
+		}
+		return entry.value;
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void invalidateAll() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getRefreshCount() {
+		return refreshCount.sum();
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private void refreshAsync(K key, Entry<V> staleEntry, Supplier<V> loader) {
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					V value = loader.get();
+					refreshCount.increment();
+					synchronized (entries) {
+						// 刷新期间已被移除或替换的缓存不再写回
+						if (entries.get(key) == staleEntry) {
+							entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+						}
+					}
+				} catch (Exception e) {
+					// 刷新失败继续使用旧值, 下次访问时重试
+					PluginLogUtils.error(e);
+					staleEntry.refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			staleEntry.refreshing.set(false);
+		}
+	}
+
+	private void put(K key, Entry<V> entry) {
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	private static class Entry<V> {
+
+		private final V value;
+
+		private final long loadTime;
+
+		private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+		private Entry(V value, long loadTime) {
+			this.value = value;
+			this.loadTime = loadTime;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package io.metersphere.plugin.jira.utils;
+
+import io.metersphere.plugin.sdk.util.MSPluginException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * 分页同步流水线
+ * <p>
+ * 拉取分页 -> 转换(工作线程池) -> 按页顺序交给消费者 三个阶段并行执行;
+ * 队列容量即预读页数, 消费者处理不过来时拉取线程阻塞, 形成背压.
+ * 消费者始终在调用线程中执行, 与原有的串行处理保持一致.
+ *
+ * @param <P> 分页数据
+ * @param <R> 转换结果
+ */
+public class SyncPagePipeline<P, R> {
+
+	private final int prefetchPages;
+
+	private final int convertThreads;
+
+	private final String threadNamePrefix;
+
+	/**
+	 * 结束标记
+	 */
+	private final CompletableFuture<R> endOfPages = new CompletableFuture<>();
+
+	public SyncPagePipeline(int prefetchPages, int convertThreads, String threadNamePrefix) {
+		this.prefetchPages = Math.max(1, prefetchPages);
+		this.convertThreads = Math.max(1, convertThreads);
+		this.threadNamePrefix = threadNamePrefix;
+	}
+
+	/**
+	 * 执行流水线
+	 *
+	 * @param pageFetcher 分页拉取(入参为页码, 从0开始), 返回null表示没有数据
+	 * @param hasNextPage 是否存在下一页
+	 * @param converter   分页转换
+	 * @param consumer    转换结果消费者(按页顺序调用)
+	 */
+	public void execute(IntFunction<P> pageFetcher, Predicate<P> hasNextPage, Function<P, R> converter, Consumer<R> consumer) {
+		BlockingQueue<CompletableFuture<R>> pageQueue = new ArrayBlockingQueue<>(prefetchPages);
+		AtomicBoolean cancelled = new AtomicBoolean(false);
+		ExecutorService fetchExecutor = Executors.newSingleThreadExecutor(namedThreadFactory("fetch"));
+		ExecutorService convertExecutor = Executors.newFixedThreadPool(convertThreads, namedThreadFactory("convert"));
+		try {
+			fetchExecutor.execute(() -> fetchPages(pageFetcher, hasNextPage, converter, pageQueue, convertExecutor, cancelled));
+			while (true) {
+				CompletableFuture<R> pageFuture = pageQueue.take();
+				if (pageFuture == endOfPages) {
+					break;
+				}
+				consumer.accept(getResult(pageFuture));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MSPluginException(e);
+		} finally {
+			cancelled.set(true);
+			fetchExecutor.shutdownNow();
+			convertExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 拉取分页并提交转换任务
+	 */
+	private void fetchPages(IntFunction<P> pageFetcher, Predicate<P> hasNextPage, Function<P, R> converter,
+							BlockingQueue<CompletableFuture<R>> pageQueue, ExecutorService convertExecutor, AtomicBoolean cancelled) {
+		try {
+			int pageIndex = 0;
+			while (!cancelled.get()) {
+				P page = pageFetcher.apply(pageIndex++);
+				if (page == null) {
+					break;
+				}
+				pageQueue.put(CompletableFuture.supplyAsync(() -> converter.apply(page), convertExecutor));
+				if (!hasNextPage.test(page)) {
+					break;
+				}
+			}
+			pageQueue.put(endOfPages);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Throwable e) {
+			try {
+				// 拉取失败(包括Error)时交给消费者抛出, 与串行处理时的异常表现一致, 否则消费者会一直等待结束标记
+				pageQueue.put(CompletableFuture.failedFuture(e));
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * 获取转换结果, 还原原始异常
+	 */
+	private R getResult(CompletableFuture<R> pageFuture) throws InterruptedException {
+		try {
+			return pageFuture.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new MSPluginException(cause);
+		}
+	}
+
+	private ThreadFactory namedThreadFactory(String stage) {
+		AtomicInteger index = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, threadNamePrefix + "-" + stage + "-" + index.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
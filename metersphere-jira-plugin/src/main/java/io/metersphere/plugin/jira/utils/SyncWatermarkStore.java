@@ -0,0 +1,26 @@
+package io.metersphere.plugin.jira.utils;
+
+/**
+ * 增量同步水位存储
+ * <p>
+ * 记录每个项目已同步到的最大更新时间, 默认实现为本地文件 {@link LocalFileSyncWatermarkStore},
+ * 集群部署时可替换为共享存储的实现.
+ */
+public interface SyncWatermarkStore {
+
+	/**
+	 * 获取水位
+	 *
+	 * @param key 水位Key
+	 * @return 最大更新时间(毫秒), 不存在时返回null
+	 */
+	Long get(String key);
+
+	/**
+	 * 保存水位
+	 *
+	 * @param key       水位Key
+	 * @param watermark 最大更新时间(毫秒)
+	 */
+	void save(String key, long watermark);
+}
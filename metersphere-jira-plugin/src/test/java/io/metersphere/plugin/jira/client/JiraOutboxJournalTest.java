@@ -0,0 +1,152 @@
+package io.metersphere.plugin.jira.client;
+
+import io.metersphere.plugin.jira.domain.JiraOutboxEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JiraOutboxJournalTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void reopenRecoversUnfinishedEntriesInOrder() {
+		Path file = tempDir.resolve("outbox.log");
+		JiraOutboxJournal journal = new JiraOutboxJournal(file);
+		assertTrue(journal.open().isEmpty());
+		journal.append(List.of(put("1", "TEST-1"), put("2", "TEST-2")));
+		journal.append(List.of(put("3", "TEST-3")));
+		journal.append(List.of(done("2")));
+		journal.close();
+
+		LinkedHashMap<String, JiraOutboxEntry> pending = new JiraOutboxJournal(file).open();
+		assertEquals(List.of("1", "3"), new ArrayList<>(pending.keySet()));
+		assertEquals("TEST-3", pending.get("3").getIssueKey());
+	}
+
+	@Test
+	void laterPutReplacesEarlierRecord() {
+		Path file = tempDir.resolve("outbox.log");
+		JiraOutboxJournal journal = new JiraOutboxJournal(file);
+		journal.open();
+		journal.append(List.of(put("1", "TEST-1")));
+		JiraOutboxEntry retried = entry("1", "TEST-1");
+		retried.setAttempts(2);
+		journal.append(List.of(JiraOutboxJournal.toRecord(retried, JiraOutboxJournal.OP_PUT)));
+		journal.close();
+
+		LinkedHashMap<String, JiraOutboxEntry> pending = new JiraOutboxJournal(file).open();
+		assertEquals(1, pending.size());
+		assertEquals(2, pending.get("1").getAttempts());
+	}
+
+	@Test
+	void openCompactsJournalToUnfinishedEntries() throws Exception {
+		Path file = tempDir.resolve("outbox.log");
+		JiraOutboxJournal journal = new JiraOutboxJournal(file);
+		journal.open();
+		journal.append(List.of(put("1", "TEST-1"), put("2", "TEST-2"), done("1")));
+		journal.close();
+		assertEquals(3, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+
+		journal = new JiraOutboxJournal(file);
+		journal.open();
+		journal.close();
+		List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		assertEquals(1, lines.size());
+		assertTrue(lines.get(0).contains("TEST-2"));
+	}
+
+	@Test
+	void compactRewritesSnapshotAndKeepsAppending() throws Exception {
+		Path file = tempDir.resolve("outbox.log");
+		JiraOutboxJournal journal = new JiraOutboxJournal(file);
+		journal.open();
+		journal.append(List.of(put("1", "TEST-1"), put("2", "TEST-2"), done("1")));
+		journal.compact(() -> List.of(put("2", "TEST-2")));
+		assertEquals(1, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+
+		// 压缩后继续追加到新文件
+		journal.append(List.of(put("3", "TEST-3")));
+		journal.close();
+		assertEquals(List.of("2", "3"), new ArrayList<>(new JiraOutboxJournal(file).open().keySet()));
+		try (var stream = Files.list(tempDir)) {
+			assertEquals(1, stream.count());
+		}
+	}
+
+	@Test
+	void truncatedLastLineIsSkipped() throws Exception {
+		Path file = tempDir.resolve("outbox.log");
+		JiraOutboxJournal journal = new JiraOutboxJournal(file);
+		journal.open();
+		journal.append(List.of(put("1", "TEST-1")));
+		journal.close();
+		// 模拟进程在写入时退出
+		String partial = put("2", "TEST-2");
+		Files.writeString(file, partial.substring(0, partial.length() / 2), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+		LinkedHashMap<String, JiraOutboxEntry> pending = new JiraOutboxJournal(file).open();
+		assertEquals(List.of("1"), new ArrayList<>(pending.keySet()));
+	}
+
+	@Test
+	void concurrentAppendsAreAllDurable() throws Exception {
+		Path file = tempDir.resolve("outbox.log");
+		JiraOutboxJournal journal = new JiraOutboxJournal(file);
+		journal.open();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				String id = String.valueOf(i);
+				futures.add(executor.submit(() -> journal.append(List.of(put(id, "TEST-" + id)))));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		journal.close();
+		assertEquals(200, new JiraOutboxJournal(file).open().size());
+	}
+
+	@Test
+	void appendAfterCloseFails() {
+		JiraOutboxJournal journal = new JiraOutboxJournal(tempDir.resolve("outbox.log"));
+		journal.open();
+		journal.close();
+		assertThrows(UncheckedIOException.class, () -> journal.append(List.of(put("1", "TEST-1"))));
+	}
+
+	private static JiraOutboxEntry entry(String id, String issueKey) {
+		JiraOutboxEntry entry = new JiraOutboxEntry();
+		entry.setId(id);
+		entry.setIssueKey(issueKey);
+		entry.setType("LINK_ISSUE");
+		return entry;
+	}
+
+	private static String put(String id, String issueKey) {
+		return JiraOutboxJournal.toRecord(entry(id, issueKey), JiraOutboxJournal.OP_PUT);
+	}
+
+	private static String done(String id) {
+		return JiraOutboxJournal.toRecord(entry(id, null), JiraOutboxJournal.OP_DONE);
+	}
+}
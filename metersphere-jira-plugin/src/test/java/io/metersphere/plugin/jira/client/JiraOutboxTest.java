@@ -0,0 +1,38 @@
+package io.metersphere.plugin.jira.client;
+
+import io.metersphere.plugin.sdk.util.MSPluginException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JiraOutboxTest {
+
+	@Test
+	void rejectedRequestIsCompletedOnFirstAttempt() {
+		assertFalse(JiraOutbox.isRetryable(new HttpClientErrorException(HttpStatus.BAD_REQUEST)));
+		assertFalse(JiraOutbox.isRetryable(new HttpClientErrorException(HttpStatus.NOT_FOUND)));
+		assertFalse(JiraOutbox.isRetryable(new HttpClientErrorException(HttpStatus.PAYLOAD_TOO_LARGE)));
+	}
+
+	@Test
+	void wrappedRejectionIsFoundOnCauseChain() {
+		HttpClientErrorException rejection = new HttpClientErrorException(HttpStatus.FORBIDDEN);
+		assertFalse(JiraOutbox.isRetryable(new MSPluginException("link failed", rejection)));
+		assertFalse(JiraOutbox.isRetryable(new CompletionException(new MSPluginException("upload failed", rejection))));
+	}
+
+	@Test
+	void throttledServerAndNetworkErrorsAreRetried() {
+		assertTrue(JiraOutbox.isRetryable(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)));
+		assertTrue(JiraOutbox.isRetryable(new HttpClientErrorException(HttpStatus.REQUEST_TIMEOUT)));
+		assertTrue(JiraOutbox.isRetryable(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+		assertTrue(JiraOutbox.isRetryable(new ResourceAccessException("connect timed out")));
+		assertTrue(JiraOutbox.isRetryable(new MSPluginException("unknown")));
+	}
+}
@@ -0,0 +1,103 @@
+package io.metersphere.plugin.jira.utils;
+
+import io.metersphere.plugin.jira.domain.JiraIssueLinkRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JiraIssueLinkDiffTest {
+
+	private static final String ISSUE_KEY = "TEST-1";
+
+	@Test
+	void unchangedLinksAreKept() {
+		// 当前缺陷为 inward 一方 (返回 outwardIssue) 与 outward 一方 (返回 inwardIssue)
+		List<Map<String, Object>> current = List.of(
+				currentLink("100", "10000", null, "TEST-2"),
+				currentLink("101", "10000", "TEST-3", null));
+		List<JiraIssueLinkRequest> desired = List.of(
+				linkRequest("10000", ISSUE_KEY, "TEST-2"),
+				linkRequest("10000", "TEST-3", ISSUE_KEY));
+
+		JiraIssueLinkDiff diff = JiraIssueLinkDiff.of(ISSUE_KEY, current, desired);
+		assertTrue(diff.staleLinkIds().isEmpty());
+		assertTrue(diff.newLinks().isEmpty());
+	}
+
+	@Test
+	void onlyChangedLinksAreRemovedOrAdded() {
+		List<Map<String, Object>> current = List.of(
+				currentLink("100", "10000", null, "TEST-2"),
+				currentLink("101", "10000", null, "TEST-3"));
+		JiraIssueLinkRequest added = linkRequest("10000", ISSUE_KEY, "TEST-4");
+		List<JiraIssueLinkRequest> desired = List.of(linkRequest("10000", ISSUE_KEY, "TEST-2"), added);
+
+		JiraIssueLinkDiff diff = JiraIssueLinkDiff.of(ISSUE_KEY, current, desired);
+		assertEquals(List.of("101"), diff.staleLinkIds());
+		assertEquals(List.of(added), diff.newLinks());
+	}
+
+	@Test
+	void directionAndTypeAreCompared() {
+		List<Map<String, Object>> current = List.of(currentLink("100", "10000", null, "TEST-2"));
+		// 方向相反或类型不同都不是同一个关联
+		JiraIssueLinkRequest reversed = linkRequest("10000", "TEST-2", ISSUE_KEY);
+		JiraIssueLinkRequest otherType = linkRequest("10001", ISSUE_KEY, "TEST-2");
+
+		JiraIssueLinkDiff diff = JiraIssueLinkDiff.of(ISSUE_KEY, current, List.of(reversed, otherType));
+		assertEquals(List.of("100"), diff.staleLinkIds());
+		assertEquals(List.of(reversed, otherType), diff.newLinks());
+	}
+
+	@Test
+	void duplicateCurrentLinkIsNotAddedAgain() {
+		List<Map<String, Object>> current = List.of(
+				currentLink("100", "10000", null, "TEST-2"),
+				currentLink("101", "10000", null, "TEST-2"));
+
+		JiraIssueLinkDiff diff = JiraIssueLinkDiff.of(ISSUE_KEY, current, List.of(linkRequest("10000", ISSUE_KEY, "TEST-2")));
+		assertTrue(diff.newLinks().isEmpty());
+		assertTrue(diff.staleLinkIds().isEmpty());
+	}
+
+	@Test
+	void missingCurrentLinksAddsAllDesired() {
+		List<JiraIssueLinkRequest> desired = List.of(linkRequest("10000", ISSUE_KEY, "TEST-2"));
+		JiraIssueLinkDiff diff = JiraIssueLinkDiff.of(ISSUE_KEY, null, desired);
+		assertTrue(diff.staleLinkIds().isEmpty());
+		assertEquals(desired, diff.newLinks());
+	}
+
+	@Test
+	void emptyDesiredRemovesAllCurrent() {
+		List<Map<String, Object>> current = List.of(
+				currentLink("100", "10000", null, "TEST-2"),
+				currentLink("101", "10001", "TEST-3", null));
+		JiraIssueLinkDiff diff = JiraIssueLinkDiff.of(ISSUE_KEY, current, List.of());
+		assertEquals(List.of("100", "101"), diff.staleLinkIds());
+		assertTrue(diff.newLinks().isEmpty());
+	}
+
+	private static Map<String, Object> currentLink(String id, String typeId, String inwardKey, String outwardKey) {
+		Map<String, Object> issueLink = new HashMap<>();
+		issueLink.put("id", id);
+		issueLink.put("type", Map.of("id", typeId));
+		if (inwardKey != null) {
+			issueLink.put("inwardIssue", Map.of("key", inwardKey));
+		}
+		if (outwardKey != null) {
+			issueLink.put("outwardIssue", Map.of("key", outwardKey));
+		}
+		return issueLink;
+	}
+
+	private static JiraIssueLinkRequest linkRequest(String typeId, String inwardKey, String outwardKey) {
+		return new JiraIssueLinkRequest(JiraIssueLinkRequest.JiraIssueLinkType.builder().id(typeId).build(),
+				JiraIssueLinkRequest.JiraIssueLinkKey.builder().key(inwardKey).build(),
+				JiraIssueLinkRequest.JiraIssueLinkKey.builder().key(outwardKey).build());
+	}
+}
@@ -0,0 +1,82 @@
+package io.metersphere.plugin.jira.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleWhileRevalidateCacheTest {
+
+	@Test
+	void freshEntryIsServedWithoutReload() {
+		StaleWhileRevalidateCache<String, String> cache = new StaleWhileRevalidateCache<>(10, 60_000, 120_000, Runnable::run);
+		AtomicInteger loads = new AtomicInteger();
+		assertEquals("v1", cache.get("key", () -> "v" + loads.incrementAndGet()));
+		assertEquals("v1", cache.get("key", () -> "v" + loads.incrementAndGet()));
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	void softExpiredEntryIsServedStaleAndRefreshed() throws Exception {
+		StaleWhileRevalidateCache<String, String> cache = new StaleWhileRevalidateCache<>(10, 50, 60_000, Runnable::run);
+		AtomicInteger loads = new AtomicInteger();
+		cache.get("key", () -> "v" + loads.incrementAndGet());
+		Thread.sleep(100);
+		// 返回旧值, 同时刷新
+		assertEquals("v1", cache.get("key", () -> "v" + loads.incrementAndGet()));
+		assertEquals("v2", cache.get("key", () -> "v" + loads.incrementAndGet()));
+		assertEquals(1, cache.getRefreshCount());
+	}
+
+	@Test
+	void failedRefreshKeepsStaleValueAndRetries() throws Exception {
+		StaleWhileRevalidateCache<String, String> cache = new StaleWhileRevalidateCache<>(10, 50, 60_000, Runnable::run);
+		cache.get("key", () -> "v1");
+		Thread.sleep(100);
+		assertEquals("v1", cache.get("key", () -> {
+			throw new IllegalStateException("refresh failed");
+		}));
+		assertEquals(0, cache.getRefreshCount());
+		// 失败后不会一直处于刷新中, 下次访问重新刷新
+		assertEquals("v1", cache.get("key", () -> "v2"));
+		assertEquals("v2", cache.get("key", () -> "v3"));
+	}
+
+	@Test
+	void failedLoadWithoutEntryIsThrownAndNotCached() {
+		StaleWhileRevalidateCache<String, String> cache = new StaleWhileRevalidateCache<>(10, 60_000, 120_000, Runnable::run);
+		IllegalStateException failure = new IllegalStateException("load failed");
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> cache.get("key", () -> {
+			throw failure;
+		})));
+		assertEquals(0, cache.size());
+		assertEquals("v1", cache.get("key", () -> "v1"));
+	}
+
+	@Test
+	void failedHardReloadServesStaleValueWithoutCachingFailure() throws Exception {
+		StaleWhileRevalidateCache<String, String> cache = new StaleWhileRevalidateCache<>(10, 20, 50, Runnable::run);
+		cache.get("key", () -> "v1");
+		Thread.sleep(100);
+		assertEquals("v1", cache.get("key", () -> {
+			throw new IllegalStateException("load failed");
+		}));
+		// 旧值仍然过期, 下次访问同步加载
+		assertEquals("v2", cache.get("key", () -> "v2"));
+	}
+
+	@Test
+	void leastRecentlyUsedEntryIsEvicted() {
+		StaleWhileRevalidateCache<String, String> cache = new StaleWhileRevalidateCache<>(2, 60_000, 120_000, Runnable::run);
+		cache.get("a", () -> "a1");
+		cache.get("b", () -> "b1");
+		cache.get("a", () -> "a2");
+		cache.get("c", () -> "c1");
+		assertEquals(2, cache.size());
+		assertEquals("a1", cache.get("a", () -> "a3"));
+		assertEquals("b2", cache.get("b", () -> "b2"));
+	}
+}
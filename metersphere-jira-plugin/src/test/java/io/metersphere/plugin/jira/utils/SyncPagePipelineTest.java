@@ -0,0 +1,99 @@
+package io.metersphere.plugin.jira.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncPagePipelineTest {
+
+	@Test
+	void consumesConvertedPagesInOrder() {
+		List<String> consumed = new ArrayList<>();
+		new SyncPagePipeline<Integer, String>(2, 4, "test")
+				.execute(pageIndex -> pageIndex, page -> page < 9, page -> {
+					// 后面的页先转换完成, 消费顺序仍按页码
+					sleep(10 - page);
+					return "page-" + page;
+				}, consumed::add);
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			expected.add("page-" + i);
+		}
+		assertEquals(expected, consumed);
+	}
+
+	@Test
+	void stopsWhenFetcherReturnsNull() {
+		List<Integer> consumed = new ArrayList<>();
+		new SyncPagePipeline<Integer, Integer>(1, 1, "test")
+				.execute(pageIndex -> pageIndex < 3 ? pageIndex : null, page -> true, page -> page, consumed::add);
+		assertEquals(List.of(0, 1, 2), consumed);
+	}
+
+	@Test
+	void rethrowsFetchExceptionAfterPreviousPages() {
+		IllegalStateException failure = new IllegalStateException("fetch failed");
+		List<Integer> consumed = new ArrayList<>();
+		IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> new SyncPagePipeline<Integer, Integer>(2, 2, "test")
+				.execute(pageIndex -> {
+					if (pageIndex == 2) {
+						throw failure;
+					}
+					return pageIndex;
+				}, page -> true, page -> page, consumed::add));
+		assertSame(failure, thrown);
+		assertEquals(List.of(0, 1), consumed);
+	}
+
+	@Test
+	void rethrowsFetchErrorInsteadOfHanging() {
+		StackOverflowError failure = new StackOverflowError("fetch error");
+		StackOverflowError thrown = assertThrows(StackOverflowError.class, () -> new SyncPagePipeline<Integer, Integer>(2, 2, "test")
+				.execute(pageIndex -> {
+					throw failure;
+				}, page -> true, page -> page, page -> {
+				}));
+		assertSame(failure, thrown);
+	}
+
+	@Test
+	void rethrowsConvertException() {
+		IllegalArgumentException failure = new IllegalArgumentException("convert failed");
+		assertSame(failure, assertThrows(IllegalArgumentException.class, () -> new SyncPagePipeline<Integer, Integer>(2, 2, "test")
+				.execute(pageIndex -> pageIndex, page -> page < 5, page -> {
+					if (page == 3) {
+						throw failure;
+					}
+					return page;
+				}, page -> {
+				})));
+	}
+
+	@Test
+	void stopsFetchingWhenConsumerFails() {
+		AtomicInteger fetched = new AtomicInteger();
+		assertThrows(IllegalStateException.class, () -> new SyncPagePipeline<Integer, Integer>(1, 1, "test")
+				.execute(pageIndex -> {
+					fetched.incrementAndGet();
+					return pageIndex;
+				}, page -> true, page -> page, page -> {
+					throw new IllegalStateException("consume failed");
+				}));
+		int fetchedAfterFailure = fetched.get();
+		sleep(50);
+		// 预读队列满后拉取线程被中断, 不会一直拉取
+		assertTrue(fetched.get() <= fetchedAfterFailure + 1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,203 @@
+package io.metersphere.plugin.common.utils;
+
+import io.metersphere.plugin.sdk.util.PluginLogUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 后台任务线程池 (缺陷创建/更新后的附件上传, 关联事务, 状态流转等耗时操作)
+ * <p>
+ * 各插件由独立的类加载器加载, 每个插件持有自己的线程池, 线程数等参数在插件启动时传入;
+ * 线程数与队列长度有上限, 队列满或线程池已停止时拒绝提交 ({@link RejectedExecutionException}), 由调用方重试或报错, 不在提交线程中执行;
+ * 单个任务开始执行后超过时限则中断任务线程, 任务在等待连接或发起下一个请求时结束 (包含多个请求的任务也受时限约束);
+ * 生命周期跟随插件启动/停止, 并提供队列长度, 活跃任务, 失败数等指标.
+ */
+public class BackgroundTaskExecutor {
+
+	private static final LongAdder SUBMITTED = new LongAdder();
+
+	private static final LongAdder COMPLETED = new LongAdder();
+
+	private static final LongAdder FAILED = new LongAdder();
+
+	private static final LongAdder REJECTED = new LongAdder();
+
+	private static final LongAdder TIMED_OUT = new LongAdder();
+
+	private static volatile ThreadPoolExecutor executor;
+
+	private static volatile ScheduledExecutorService timeoutScheduler;
+
+	/**
+	 * 插件名称 (用于线程名及日志)
+	 */
+	private static volatile String name = "plugin";
+
+	private static volatile int taskTimeoutSeconds;
+
+	private static volatile int shutdownWaitSeconds;
+
+	/**
+	 * 启动线程池 (插件启动时调用)
+	 *
+	 * @param pluginName          插件名称 (用于线程名及日志)
+	 * @param threads             线程数
+	 * @param queueCapacity       队列长度
+	 * @param taskTimeoutSeconds  单个任务超时时间(秒)
+	 * @param shutdownWaitSeconds 停止时等待任务完成的时间(秒)
+	 */
+	public static synchronized void start(String pluginName, int threads, int queueCapacity, int taskTimeoutSeconds, int shutdownWaitSeconds) {
+		if (executor != null && !executor.isShutdown()) {
+			return;
+		}
+		name = pluginName;
+		BackgroundTaskExecutor.taskTimeoutSeconds = taskTimeoutSeconds;
+		BackgroundTaskExecutor.shutdownWaitSeconds = shutdownWaitSeconds;
+		timeoutScheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory(pluginName + "-task-timeout-"));
+		ThreadPoolExecutor newExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), namedThreadFactory(pluginName + "-task-"), (task, pool) -> {
+			REJECTED.increment();
+			throw new RejectedExecutionException(name + (pool.isShutdown() ? " background task executor is shut down" : " background task queue is full"));
+		});
+		newExecutor.allowCoreThreadTimeOut(true);
+		executor = newExecutor;
+	}
+
+	/**
+	 * 停止线程池, 不再接受新任务, 等待已提交的任务执行完成 (插件停止时调用)
+	 */
+	public static void shutdown() {
+		ThreadPoolExecutor currentExecutor;
+		ScheduledExecutorService currentScheduler;
+		synchronized (BackgroundTaskExecutor.class) {
+			currentExecutor = executor;
+			currentScheduler = timeoutScheduler;
+			if (currentExecutor == null) {
+				return;
+			}
+			currentExecutor.shutdown();
+		}
+		// 等待期间不持有锁
+		try {
+			if (!currentExecutor.awaitTermination(shutdownWaitSeconds, TimeUnit.SECONDS)) {
+				currentExecutor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			currentExecutor.shutdownNow();
+			Thread.currentThread().interrupt();
+		} finally {
+			// 剩余任务已结束或已中断, 不再需要计时
+			currentScheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * 提交后台任务
+	 *
+	 * @param taskName 任务名称 (用于日志)
+	 * @param task     任务
+	 * @throws RejectedExecutionException 队列已满, 或线程池未启动/已停止
+	 */
+	public static void submit(String taskName, Runnable task) {
+		ThreadPoolExecutor currentExecutor = executor;
+		if (currentExecutor == null) {
+			REJECTED.increment();
+			throw new RejectedExecutionException(name + " background task executor is not started");
+		}
+		currentExecutor.execute(new TimedTask(taskName, task, timeoutScheduler, taskTimeoutSeconds));
+		SUBMITTED.increment();
+	}
+
+	/**
+	 * 获取线程池指标
+	 *
+	 * @return 指标名称 -> 值
+	 */
+	public static Map<String, Long> getMetrics() {
+		ThreadPoolExecutor currentExecutor = executor;
+		Map<String, Long> metrics = new LinkedHashMap<>();
+		metrics.put("queueSize", currentExecutor == null ? 0L : currentExecutor.getQueue().size());
+		metrics.put("activeCount", currentExecutor == null ? 0L : currentExecutor.getActiveCount());
+		metrics.put("submitted", SUBMITTED.sum());
+		metrics.put("completed", COMPLETED.sum());
+		metrics.put("failed", FAILED.sum());
+		metrics.put("rejected", REJECTED.sum());
+		metrics.put("timedOut", TIMED_OUT.sum());
+		return metrics;
+	}
+
+	private static ThreadFactory namedThreadFactory(String prefix) {
+		AtomicInteger index = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + index.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * 带时限的任务: 开始执行后计时, 超时则中断执行线程
+	 */
+	private static class TimedTask implements Runnable {
+
+		private final String taskName;
+
+		private final Runnable task;
+
+		private final ScheduledExecutorService scheduler;
+
+		private final int timeoutSeconds;
+
+		/**
+		 * 任务是否已结束 (需持有 this), 结束后超时不再中断线程, 避免中断线程执行的下一个任务
+		 */
+		private boolean finished;
+
+		private TimedTask(String taskName, Runnable task, ScheduledExecutorService scheduler, int timeoutSeconds) {
+			this.taskName = taskName;
+			this.task = task;
+			this.scheduler = scheduler;
+			this.timeoutSeconds = timeoutSeconds;
+		}
+
+		@Override
+		public void run() {
+			Thread worker = Thread.currentThread();
+			ScheduledFuture<?> timeout = null;
+			try {
+				timeout = scheduler.schedule(() -> cancel(worker), timeoutSeconds, TimeUnit.SECONDS);
+			} catch (RejectedExecutionException e) {
+				// 线程池停止中, 剩余任务由停止等待时间约束
+			}
+			try {
+				task.run();
+				COMPLETED.increment();
+			} catch (Exception e) {
+				FAILED.increment();
+				PluginLogUtils.error(name + " background task failed: " + taskName, e);
+			} finally {
+				synchronized (this) {
+					finished = true;
+				}
+				if (timeout != null) {
+					timeout.cancel(false);
+				}
+				// 清除超时与结束之间设置的中断标记
+				Thread.interrupted();
+			}
+		}
+
+		private synchronized void cancel(Thread worker) {
+			if (finished) {
+				return;
+			}
+			TIMED_OUT.increment();
+			PluginLogUtils.info(name + " background task timeout after " + timeoutSeconds + "s, cancel: " + taskName);
+			worker.interrupt();
+		}
+	}
+}
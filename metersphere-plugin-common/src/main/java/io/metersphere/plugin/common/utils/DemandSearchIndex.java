@@ -0,0 +1,294 @@
+package io.metersphere.plugin.common.utils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * 需求搜索索引 (需求ID, 名称的 n-gram 倒排索引)
+ * <p>
+ * 按 1~3 个字符的子串建立倒排表: 不超过3个字符的关键字直接命中倒排表, 更长的关键字取最短的三字符倒排表作为候选再逐个校验,
+ * 结果与逐个 contains 匹配一致. 结果按需求ID排序, 支持分页并返回总数.
+ * 需求列表刷新时只对新增, 删除及名称变化的需求更新索引.
+ *
+ * @param <T> 需求类型
+ */
+public class DemandSearchIndex<T> {
+
+	private static final int GRAM_SIZE = 3;
+
+	private final Function<T, String> idGetter;
+
+	private final Function<T, String> nameGetter;
+
+	private final boolean ignoreCase;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Integer> slotById = new HashMap<>();
+
+	private final List<T> slotItems = new ArrayList<>();
+
+	private final List<String> slotIds = new ArrayList<>();
+
+	private final List<String> slotNames = new ArrayList<>();
+
+	private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+	private final Map<String, Posting> postings = new HashMap<>();
+
+	private int[] sortedSlots = new int[0];
+
+	private volatile List<T> source;
+
+	/**
+	 * @param idGetter   获取需求ID
+	 * @param nameGetter 获取需求名称
+	 * @param ignoreCase 是否忽略大小写
+	 */
+	public DemandSearchIndex(Function<T, String> idGetter, Function<T, String> nameGetter, boolean ignoreCase) {
+		this.idGetter = idGetter;
+		this.nameGetter = nameGetter;
+		this.ignoreCase = ignoreCase;
+	}
+
+	/**
+	 * 刷新索引 (与上次刷新的是同一个列表时不处理)
+	 *
+	 * @param items 需求列表
+	 */
+	public void refresh(List<T> items) {
+		if (items == source) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (items == source) {
+				return;
+			}
+			Map<String, T> itemById = new LinkedHashMap<>();
+			items.stream().filter(item -> idGetter.apply(item) != null).forEach(item -> itemById.put(idGetter.apply(item), item));
+			for (Map.Entry<String, Integer> entry : new ArrayList<>(slotById.entrySet())) {
+				T item = itemById.get(entry.getKey());
+				int slot = entry.getValue();
+				if (item == null || !Objects.equals(normalize(nameGetter.apply(item)), slotNames.get(slot))) {
+					removeSlot(slot);
+				} else {
+					slotItems.set(slot, item);
+				}
+			}
+			itemById.forEach((id, item) -> {
+				if (!slotById.containsKey(id)) {
+					addSlot(id, item);
+				}
+			});
+			sortedSlots = slotById.entrySet().stream().sorted(Map.Entry.comparingByKey()).mapToInt(Map.Entry::getValue).toArray();
+			source = items;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 索引是否为空
+	 *
+	 * @return {true: 没有需求}
+	 */
+	public boolean isEmpty() {
+		lock.readLock().lock();
+		try {
+			return slotById.isEmpty();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 搜索需求 (需求ID或名称包含关键字)
+	 *
+	 * @param query  关键字, 为空时返回全部
+	 * @param filter 其他过滤条件, 可为空
+	 * @param offset 开始位置
+	 * @param limit  返回数量
+	 * @return 分页结果
+	 */
+	public SearchResult<T> search(String query, Predicate<T> filter, int offset, int limit) {
+		return search(query, null, filter, offset, limit);
+	}
+
+	/**
+	 * 搜索需求 (需求ID或名称包含关键字, 或者需求ID在指定集合中)
+	 *
+	 * @param query      关键字, 为空时返回全部
+	 * @param includeIds 不匹配关键字也返回的需求ID (如子需求匹配关键字的父需求), 可为空
+	 * @param filter     其他过滤条件, 可为空
+	 * @param offset     开始位置
+	 * @param limit      返回数量
+	 * @return 分页结果
+	 */
+	public SearchResult<T> search(String query, Collection<String> includeIds, Predicate<T> filter, int offset, int limit) {
+		lock.readLock().lock();
+		try {
+			BitSet candidates = query == null || query.isBlank() ? null : findCandidates(normalize(query));
+			if (candidates != null && includeIds != null) {
+				includeIds.stream().map(slotById::get).filter(Objects::nonNull).forEach(candidates::set);
+			}
+			List<T> list = new ArrayList<>();
+			int total = 0;
+			for (int slot : sortedSlots) {
+				if (candidates != null && !candidates.get(slot)) {
+					continue;
+				}
+				T item = slotItems.get(slot);
+				if (filter != null && !filter.test(item)) {
+					continue;
+				}
+				if (total >= offset && list.size() < limit) {
+					list.add(item);
+				}
+				total++;
+			}
+			return new SearchResult<>(list, total);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 搜索全部匹配的需求
+	 *
+	 * @param query 关键字
+	 * @return 需求列表
+	 */
+	public List<T> search(String query) {
+		return search(query, null, 0, Integer.MAX_VALUE).list();
+	}
+
+	private BitSet findCandidates(String keyword) {
+		BitSet candidates = new BitSet(slotItems.size());
+		if (keyword.length() <= GRAM_SIZE) {
+			Posting posting = postings.get(keyword);
+			if (posting != null) {
+				posting.forEach(candidates::set);
+			}
+			return candidates;
+		}
+		// 取最短的倒排表作为候选, 再逐个校验
+		Posting shortest = null;
+		for (int i = 0; i + GRAM_SIZE <= keyword.length(); i++) {
+			Posting posting = postings.get(keyword.substring(i, i + GRAM_SIZE));
+			if (posting == null) {
+				return candidates;
+			}
+			if (shortest == null || posting.size < shortest.size) {
+				shortest = posting;
+			}
+		}
+		shortest.forEach(slot -> {
+			if (slotIds.get(slot).contains(keyword) || (slotNames.get(slot) != null && slotNames.get(slot).contains(keyword))) {
+				candidates.set(slot);
+			}
+		});
+		return candidates;
+	}
+
+	private void addSlot(String id, T item) {
+		int slot;
+		if (freeSlots.isEmpty()) {
+			slot = slotItems.size();
+			slotItems.add(item);
+			slotIds.add(null);
+			slotNames.add(null);
+		} else {
+			slot = freeSlots.pop();
+			slotItems.set(slot, item);
+		}
+		String normalizedId = normalize(id);
+		String normalizedName = normalize(nameGetter.apply(item));
+		slotIds.set(slot, normalizedId);
+		slotNames.set(slot, normalizedName);
+		slotById.put(id, slot);
+		grams(normalizedId, normalizedName).forEach(gram -> postings.computeIfAbsent(gram, key -> new Posting()).add(slot));
+	}
+
+	private void removeSlot(int slot) {
+		grams(slotIds.get(slot), slotNames.get(slot)).forEach(gram -> {
+			Posting posting = postings.get(gram);
+			if (posting != null && posting.remove(slot) && posting.size == 0) {
+				postings.remove(gram);
+			}
+		});
+		slotById.remove(idGetter.apply(slotItems.get(slot)));
+		slotItems.set(slot, null);
+		slotIds.set(slot, null);
+		slotNames.set(slot, null);
+		freeSlots.push(slot);
+	}
+
+	private Set<String> grams(String... texts) {
+		Set<String> grams = new HashSet<>();
+		for (String text : texts) {
+			if (text == null) {
+				continue;
+			}
+			for (int i = 0; i < text.length(); i++) {
+				for (int n = 1; n <= GRAM_SIZE && i + n <= text.length(); n++) {
+					grams.add(text.substring(i, i + n));
+				}
+			}
+		}
+		return grams;
+	}
+
+	private String normalize(String text) {
+		if (text == null) {
+			return null;
+		}
+		return ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+	}
+
+	/**
+	 * 搜索结果
+	 *
+	 * @param list  当前页数据
+	 * @param total 匹配总数
+	 */
+	public record SearchResult<T>(List<T> list, int total) {
+	}
+
+	/**
+	 * 倒排表 (无序的位置集合)
+	 */
+	private static class Posting {
+
+		private int[] slots = new int[4];
+
+		private int size;
+
+		private void add(int slot) {
+			if (size == slots.length) {
+				slots = Arrays.copyOf(slots, size * 2);
+			}
+			slots[size++] = slot;
+		}
+
+		private boolean remove(int slot) {
+			for (int i = 0; i < size; i++) {
+				if (slots[i] == slot) {
+					slots[i] = slots[--size];
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void forEach(IntConsumer action) {
+			for (int i = 0; i < size; i++) {
+				action.accept(slots[i]);
+			}
+		}
+	}
+}
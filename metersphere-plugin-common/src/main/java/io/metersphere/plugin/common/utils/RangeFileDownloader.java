@@ -0,0 +1,152 @@
+package io.metersphere.plugin.common.utils;
+
+import io.metersphere.plugin.sdk.util.PluginLogUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 附件下载到文件
+ * <p>
+ * 响应流通过 FileChannel#transferFrom 直接写入文件, 不经过调用方的中转缓冲;
+ * 下载中断时保留 .part 文件, 重试时通过 Range 请求从已下载位置继续, 完成后校验文件大小再重命名为目标文件.
+ * 续传请求带上首次响应的 ETag/Last-Modified 作为 If-Range, 服务端文件已变化时返回完整内容(200), 从头重新写入;
+ * 无法确认版本的 .part 文件(上次调用遗留或服务端未返回版本标识)不续传.
+ */
+public class RangeFileDownloader {
+
+	private static final String PART_SUFFIX = ".part";
+
+	private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+	/**
+	 * 下载文件
+	 *
+	 * @param restTemplate 请求客户端
+	 * @param url          请求路径
+	 * @param headers      请求头 (认证等)
+	 * @param target       目标文件
+	 * @param maxAttempts  最大尝试次数
+	 * @param uriVariables 路径参数
+	 * @return 文件大小
+	 */
+	public static long download(RestTemplate restTemplate, String url, HttpHeaders headers, Path target, int maxAttempts, Object... uriVariables) {
+		Path partFile = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+		int attempts = Math.max(1, maxAttempts);
+		// 已下载部分对应的文件版本, 续传时作为 If-Range 条件
+		AtomicReference<String> validator = new AtomicReference<>();
+		deleteQuietly(partFile);
+		for (int attempt = 1; ; attempt++) {
+			try {
+				Files.createDirectories(target.toAbsolutePath().getParent());
+				// 没有版本标识时无法确认服务端文件未变化, 从头下载
+				long offset = Files.exists(partFile) && validator.get() != null ? Files.size(partFile) : 0;
+				long expectedSize = restTemplate.execute(url, HttpMethod.GET, request -> {
+					request.getHeaders().addAll(headers);
+					request.getHeaders().setAccept(List.of(MediaType.APPLICATION_OCTET_STREAM, MediaType.ALL));
+					// 压缩传输时 Range 偏移与解压后的文件大小不一致, 下载时不压缩
+					request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "identity");
+					if (offset > 0) {
+						request.getHeaders().setRange(List.of(HttpRange.createByteRange(offset)));
+						request.getHeaders().set(HttpHeaders.IF_RANGE, validator.get());
+					}
+				}, response -> writePart(response, partFile, offset, validator), uriVariables);
+				long size = Files.size(partFile);
+				if (expectedSize >= 0 && size != expectedSize) {
+					if (size > expectedSize) {
+						Files.deleteIfExists(partFile);
+					}
+					throw new IOException("attachment size mismatch, expected " + expectedSize + " but was " + size);
+				}
+				Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				return size;
+			} catch (HttpClientErrorException e) {
+				if (!HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.isSameCodeAs(e.getStatusCode()) || attempt >= attempts) {
+					throw e;
+				}
+				// 已下载部分与服务端文件不一致, 重新下载
+				deleteQuietly(partFile);
+			} catch (IOException | UncheckedIOException | ResourceAccessException e) {
+				if (attempt >= attempts) {
+					throw e instanceof IOException ioException ? new UncheckedIOException(ioException) : (RuntimeException) e;
+				}
+				PluginLogUtils.error("attachment download interrupted, resume later: " + target.getFileName(), e);
+			}
+		}
+	}
+
+	/**
+	 * 写入响应内容, 服务端返回部分内容(206)时从已下载位置追加, 返回完整内容(200)时从头写入并记录文件版本
+	 *
+	 * @return 文件总大小, 未知时返回 -1
+	 */
+	private static long writePart(ClientHttpResponse response, Path partFile, long offset, AtomicReference<String> validator) throws IOException {
+		HttpHeaders responseHeaders = response.getHeaders();
+		long start = 0;
+		long totalSize = responseHeaders.getContentLength();
+		boolean partial = offset > 0 && HttpStatus.PARTIAL_CONTENT.isSameCodeAs(response.getStatusCode());
+		if (!partial) {
+			validator.set(getValidator(responseHeaders));
+		} else {
+			// Content-Range: bytes {start}-{end}/{total}
+			String contentRange = StringUtils.substringAfter(responseHeaders.getFirst(HttpHeaders.CONTENT_RANGE), "bytes ");
+			start = Long.parseLong(StringUtils.substringBefore(contentRange, "-").trim());
+			String total = StringUtils.substringAfter(contentRange, "/").trim();
+			totalSize = StringUtils.isNumeric(total) ? Long.parseLong(total) : -1;
+			if (start != offset) {
+				Files.deleteIfExists(partFile);
+				throw new IOException("unexpected content range: " + contentRange);
+			}
+		}
+		try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			 ReadableByteChannel source = Channels.newChannel(response.getBody())) {
+			channel.truncate(start);
+			long position = start;
+			long transferred;
+			while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+				position += transferred;
+			}
+		}
+		return totalSize;
+	}
+
+	/**
+	 * 获取响应的文件版本标识: 强 ETag 优先, 其次 Last-Modified (弱 ETag 不能用于 If-Range)
+	 *
+	 * @return 版本标识, 没有时返回null
+	 */
+	private static String getValidator(HttpHeaders responseHeaders) {
+		String eTag = responseHeaders.getETag();
+		if (StringUtils.isNotBlank(eTag) && !StringUtils.startsWith(eTag, "W/")) {
+			return eTag;
+		}
+		return StringUtils.defaultIfBlank(responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED), null);
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			PluginLogUtils.error(e);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package io.metersphere.plugin.common.utils;
+
+import java.text.ParsePosition;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * 线程安全的时间解析 (替代共享的 SimpleDateFormat)
+ * <p>
+ * 按格式解析字符串开头部分, 多余的内容忽略; 格式包含时区偏移(如 XX)时按偏移转换, 否则按系统时区转换为毫秒时间戳;
+ * 最近解析过的字符串缓存结果, 同一时间重复解析时直接返回.
+ * 与 SimpleDateFormat 的宽松解析不同, 不存在的日期(如 0000-00-00)解析失败, 由调用方单独处理.
+ */
+public class TimestampParser {
+
+	private static final int MEMO_SIZE = 256;
+
+	private final DateTimeFormatter formatter;
+
+	private final ZoneId zoneId;
+
+	/**
+	 * 直接映射的结果缓存 (固定大小), 并发写入时互相覆盖不影响正确性
+	 */
+	private final Entry[] memo = new Entry[MEMO_SIZE];
+
+	/**
+	 * @param pattern 时间格式
+	 */
+	public TimestampParser(String pattern) {
+		this.formatter = DateTimeFormatter.ofPattern(pattern);
+		this.zoneId = ZoneId.systemDefault();
+	}
+
+	/**
+	 * 解析时间
+	 *
+	 * @param text 时间字符串
+	 * @return 毫秒时间戳
+	 */
+	public long parse(String text) {
+		int index = text.hashCode() & (MEMO_SIZE - 1);
+		Entry entry = memo[index];
+		if (entry != null && entry.text().equals(text)) {
+			return entry.millis();
+		}
+		TemporalAccessor parsed = formatter.parse(text, new ParsePosition(0));
+		long millis = parsed.isSupported(ChronoField.OFFSET_SECONDS) ? OffsetDateTime.from(parsed).toInstant().toEpochMilli() :
+				LocalDateTime.from(parsed).atZone(zoneId).toInstant().toEpochMilli();
+		memo[index] = new Entry(text, millis);
+		return millis;
+	}
+
+	private record Entry(String text, long millis) {
+	}
+}
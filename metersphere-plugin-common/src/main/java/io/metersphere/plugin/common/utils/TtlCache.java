@@ -0,0 +1,169 @@
+package io.metersphere.plugin.common.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 带过期时间的本地缓存
+ * <p>
+ * 同一Key并发加载时只有一个线程真正执行加载, 其余线程等待并共享结果(single-flight);
+ * 加载失败不缓存, 异常抛给所有等待的线程.
+ * 加载新值时顺带清理过期的缓存(每个过期时间内最多一次), 不再访问的Key不会一直保留.
+ *
+ * @param <K> 缓存Key
+ * @param <V> 缓存值
+ */
+public class TtlCache<K, V> {
+
+	private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	private final long ttlMillis;
+
+	private volatile long nextSweepAt;
+
+	public TtlCache(long ttlMillis) {
+		this.ttlMillis = ttlMillis;
+		this.nextSweepAt = System.currentTimeMillis() + ttlMillis;
+	}
+
+	/**
+	 * 获取缓存, 不存在或已过期时加载
+	 *
+	 * @param key    缓存Key
+	 * @param loader 加载方法
+	 * @return 缓存值
+	 */
+	public V get(K key, Supplier<V> loader) {
+		return getOrReload(key, previous -> loader.get());
+	}
+
+	/**
+	 * 获取缓存, 不存在或已过期时加载; 已过期的旧值交给加载方法, 用于增量更新
+	 *
+	 * @param key      缓存Key
+	 * @param reloader 加载方法, 入参为已过期的旧值 (没有时为null)
+	 * @return 缓存值
+	 */
+	public V getOrReload(K key, UnaryOperator<V> reloader) {
+		Entry<V> entry = entries.get(key);
+		if (entry != null && !entry.isExpired()) {
+			return join(entry.future);
+		}
+		sweepExpired();
+		V previous = entry == null || entry.future.isCompletedExceptionally() ? null : entry.future.join();
+		Entry<V> newEntry = new Entry<>(new CompletableFuture<>(), System.currentTimeMillis() + ttlMillis);
+		Entry<V> current = entries.compute(key, (k, old) -> old != null && !old.isExpired() ? old : newEntry);
+		if (current == newEntry) {
+			try {
+				newEntry.future.complete(reloader.apply(previous));
+			} catch (Throwable e) {
+				entries.remove(key, newEntry);
+				newEntry.future.completeExceptionally(e);
+			}
+		}
+		return join(current.future);
+	}
+
+	/**
+	 * 获取已加载完成且未过期的缓存, 不触发加载
+	 *
+	 * @param key 缓存Key
+	 * @return 缓存值, 不存在时返回null
+	 */
+	public V getIfPresent(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally() || entry.isExpired()) {
+			return null;
+		}
+		return entry.future.join();
+	}
+
+	/**
+	 * 遍历已加载完成且未过期的缓存
+	 *
+	 * @param action 处理方法
+	 */
+	public void forEachPresent(BiConsumer<K, V> action) {
+		entries.forEach((key, entry) -> {
+			if (entry.future.isDone() && !entry.future.isCompletedExceptionally() && !entry.isExpired()) {
+				action.accept(key, entry.future.join());
+			}
+		});
+	}
+
+	/**
+	 * 移除缓存
+	 *
+	 * @param key 缓存Key
+	 */
+	public void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * 移除满足条件的缓存
+	 *
+	 * @param keyPredicate Key条件
+	 */
+	public void invalidateIf(Predicate<K> keyPredicate) {
+		entries.keySet().removeIf(keyPredicate);
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void invalidateAll() {
+		entries.clear();
+	}
+
+	/**
+	 * 当前缓存数量 (包括加载中及已过期未清理的)
+	 *
+	 * @return 缓存数量
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 清理过期的缓存, 每个过期时间内最多执行一次
+	 */
+	private void sweepExpired() {
+		long now = System.currentTimeMillis();
+		if (now < nextSweepAt) {
+			return;
+		}
+		nextSweepAt = now + ttlMillis;
+		entries.values().removeIf(Entry::isExpired);
+	}
+
+	private V join(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private record Entry<V>(CompletableFuture<V> future, long expireAt) {
+
+		/**
+		 * 加载中的缓存不过期, 避免并发重复加载
+		 */
+		boolean isExpired() {
+			return future.isDone() && System.currentTimeMillis() > expireAt;
+		}
+	}
+}
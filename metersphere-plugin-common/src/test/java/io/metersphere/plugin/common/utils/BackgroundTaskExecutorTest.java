@@ -0,0 +1,74 @@
+package io.metersphere.plugin.common.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackgroundTaskExecutorTest {
+
+	@AfterEach
+	void shutdown() {
+		BackgroundTaskExecutor.shutdown();
+	}
+
+	@Test
+	void taskOverDeadlineIsInterrupted() throws Exception {
+		BackgroundTaskExecutor.start("test", 1, 10, 1, 5);
+		long timedOut = BackgroundTaskExecutor.getMetrics().get("timedOut");
+		CountDownLatch interrupted = new CountDownLatch(1);
+		BackgroundTaskExecutor.submit("slow", () -> {
+			try {
+				Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+		});
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		assertEquals(timedOut + 1, BackgroundTaskExecutor.getMetrics().get("timedOut"));
+
+		// 超时的中断标记不影响同一线程执行的下一个任务
+		AtomicBoolean nextInterrupted = new AtomicBoolean(true);
+		CountDownLatch nextDone = new CountDownLatch(1);
+		BackgroundTaskExecutor.submit("next", () -> {
+			nextInterrupted.set(Thread.currentThread().isInterrupted());
+			nextDone.countDown();
+		});
+		assertTrue(nextDone.await(5, TimeUnit.SECONDS));
+		assertFalse(nextInterrupted.get());
+	}
+
+	@Test
+	void fullQueueIsRejected() throws Exception {
+		BackgroundTaskExecutor.start("test", 1, 1, 60, 5);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		BackgroundTaskExecutor.submit("blocking", () -> {
+			running.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(running.await(5, TimeUnit.SECONDS));
+		BackgroundTaskExecutor.submit("queued", () -> {
+		});
+		assertThrows(RejectedExecutionException.class, () -> BackgroundTaskExecutor.submit("rejected", () -> {
+		}));
+		release.countDown();
+	}
+
+	@Test
+	void submitAfterShutdownIsRejected() {
+		BackgroundTaskExecutor.start("test", 1, 10, 60, 5);
+		BackgroundTaskExecutor.shutdown();
+		assertThrows(RejectedExecutionException.class, () -> BackgroundTaskExecutor.submit("late", () -> {
+		}));
+	}
+}
@@ -0,0 +1,132 @@
+package io.metersphere.plugin.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DemandSearchIndexTest {
+
+	@Test
+	void searchMatchesIdOrNameSortedById() {
+		DemandSearchIndex<Demand> index = newIndex(false);
+		index.refresh(List.of(new Demand("STORY-3", "登录页面优化"), new Demand("STORY-1", "用户登录"), new Demand("STORY-2", "导出报表")));
+		assertEquals(List.of("STORY-1", "STORY-3"), ids(index.search("登录")));
+		assertEquals(List.of("STORY-2"), ids(index.search("Y-2")));
+		// 超过3个字符的关键字
+		assertEquals(List.of("STORY-3"), ids(index.search("登录页面优化")));
+		assertTrue(index.search("登录页面慢").isEmpty());
+		assertEquals(List.of("STORY-1", "STORY-2", "STORY-3"), ids(index.search(" ")));
+	}
+
+	@Test
+	void ignoreCaseAppliesToIdAndName() {
+		List<Demand> demands = List.of(new Demand("ABC-1", "Export Report"));
+		DemandSearchIndex<Demand> caseInsensitive = newIndex(true);
+		caseInsensitive.refresh(demands);
+		assertEquals(1, caseInsensitive.search("abc").size());
+		assertEquals(1, caseInsensitive.search("EXPORT rep").size());
+
+		DemandSearchIndex<Demand> caseSensitive = newIndex(false);
+		caseSensitive.refresh(demands);
+		assertTrue(caseSensitive.search("abc").isEmpty());
+		assertEquals(1, caseSensitive.search("Export").size());
+	}
+
+	@Test
+	void searchPagesWithFilterAndReturnsTotal() {
+		List<Demand> demands = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			demands.add(new Demand(String.format("STORY-%02d", i), i % 2 == 0 ? "需求" + i : "缺陷" + i));
+		}
+		DemandSearchIndex<Demand> index = newIndex(false);
+		index.refresh(demands);
+
+		DemandSearchIndex.SearchResult<Demand> page = index.search("需求", demand -> !demand.id().equals("STORY-00"), 2, 3);
+		assertEquals(9, page.total());
+		assertEquals(List.of("STORY-06", "STORY-08", "STORY-10"), ids(page.list()));
+		assertEquals(20, index.search(null, null, 18, 10).total());
+		assertEquals(2, index.search(null, null, 18, 10).list().size());
+	}
+
+	@Test
+	void includeIdsAreReturnedWithoutMatchingQuery() {
+		DemandSearchIndex<Demand> index = newIndex(false);
+		index.refresh(List.of(new Demand("1", "登录"), new Demand("2", "导出"), new Demand("3", "报表"), new Demand("4", "权限")));
+		// 子需求匹配关键字的父需求一起分页
+		DemandSearchIndex.SearchResult<Demand> page = index.search("登录", Set.of("3", "4", "404"), demand -> !demand.id().equals("4"), 1, 10);
+		assertEquals(2, page.total());
+		assertEquals(List.of("3"), ids(page.list()));
+		// 没有关键字时返回全部
+		assertEquals(4, index.search(null, Set.of("1"), null, 0, 10).total());
+	}
+
+	@Test
+	void refreshOnlyUpdatesChangedDemands() {
+		DemandSearchIndex<Demand> index = newIndex(false);
+		assertTrue(index.isEmpty());
+		index.refresh(List.of(new Demand("1", "旧名称"), new Demand("2", "保持不变"), new Demand("3", "将被删除")));
+		assertFalse(index.isEmpty());
+
+		Demand kept = new Demand("2", "保持不变");
+		index.refresh(List.of(new Demand("1", "新名称"), kept, new Demand("4", "新增需求")));
+		assertTrue(index.search("旧名称").isEmpty());
+		assertEquals(List.of("1"), ids(index.search("新名称")));
+		assertTrue(index.search("删除").isEmpty());
+		assertEquals(List.of("4"), ids(index.search("新增")));
+		// 名称未变化的需求返回最新的对象
+		assertSame(kept, index.search("保持").get(0));
+
+		index.refresh(List.of());
+		assertTrue(index.isEmpty());
+		assertTrue(index.search(null).isEmpty());
+	}
+
+	@Test
+	void resultsMatchPlainContains() {
+		Random random = new Random(42);
+		String alphabet = "abAB12需求";
+		DemandSearchIndex<Demand> index = newIndex(true);
+		for (int round = 0; round < 5; round++) {
+			List<Demand> demands = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				// 每轮保留部分需求, 覆盖增量刷新后的复用位置
+				demands.add(new Demand(String.valueOf(random.nextInt(300)), randomText(random, alphabet, 1 + random.nextInt(8))));
+			}
+			index.refresh(demands);
+			for (int i = 0; i < 50; i++) {
+				String query = randomText(random, alphabet, 1 + random.nextInt(5));
+				String keyword = query.toLowerCase(Locale.ROOT);
+				List<String> expected = index.search(null).stream()
+						.filter(demand -> demand.id().toLowerCase(Locale.ROOT).contains(keyword) || demand.name().toLowerCase(Locale.ROOT).contains(keyword))
+						.map(Demand::id)
+						.toList();
+				assertEquals(expected, ids(index.search(query)), query);
+			}
+		}
+	}
+
+	private static DemandSearchIndex<Demand> newIndex(boolean ignoreCase) {
+		return new DemandSearchIndex<>(Demand::id, Demand::name, ignoreCase);
+	}
+
+	private static List<String> ids(List<Demand> demands) {
+		return demands.stream().map(Demand::id).toList();
+	}
+
+	private static String randomText(Random random, String alphabet, int length) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return text.toString();
+	}
+
+	private record Demand(String id, String name) {
+	}
+}
@@ -0,0 +1,84 @@
+package io.metersphere.plugin.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimestampParserTest {
+
+	@Test
+	void parsesInSystemZone() {
+		TimestampParser parser = new TimestampParser("yyyy-MM-dd HH:mm:ss");
+		long expected = LocalDateTime.of(2024, 3, 5, 10, 15, 30).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		assertEquals(expected, parser.parse("2024-03-05 10:15:30"));
+	}
+
+	@Test
+	void offsetInTextIsApplied() {
+		// Jira 时间带毫秒及时区偏移, 按偏移解析, 与系统时区无关
+		TimestampParser parser = new TimestampParser("yyyy-MM-dd'T'HH:mm:ss[.SSS][XX]");
+		long expected = Instant.parse("2024-03-05T02:15:30.123Z").toEpochMilli();
+		assertEquals(expected, parser.parse("2024-03-05T10:15:30.123+0800"));
+		assertEquals(expected, parser.parse("2024-03-05T02:15:30.123+0000"));
+		// 没有偏移时按系统时区解析
+		assertEquals(LocalDateTime.of(2024, 3, 5, 10, 15, 30).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+				parser.parse("2024-03-05T10:15:30"));
+	}
+
+	@Test
+	void trailingTextIsIgnored() {
+		TimestampParser parser = new TimestampParser("yyyy-MM-dd HH:mm:ss");
+		assertEquals(parser.parse("2024-03-05 10:15:30"), parser.parse("2024-03-05 10:15:30.0"));
+	}
+
+	@Test
+	void memoizedResultMatchesFirstParse() {
+		TimestampParser parser = new TimestampParser("yyyy-MM-dd HH:mm:ss");
+		long first = parser.parse("2024-03-05 10:15:30");
+		// 其他字符串覆盖缓存位置后仍返回正确结果
+		for (int i = 0; i < 1000; i++) {
+			parser.parse(String.format("2024-01-01 00:%02d:%02d", i / 60 % 60, i % 60));
+		}
+		assertEquals(first, parser.parse("2024-03-05 10:15:30"));
+		assertEquals(first, parser.parse("2024-03-05 10:15:30"));
+	}
+
+	@Test
+	void impossibleDateFails() {
+		TimestampParser parser = new TimestampParser("yyyy-MM-dd HH:mm:ss");
+		assertThrows(DateTimeException.class, () -> parser.parse("0000-00-00 00:00:00"));
+		assertThrows(DateTimeException.class, () -> parser.parse("2024-03-05"));
+		assertThrows(DateTimeException.class, () -> parser.parse("not a date"));
+	}
+
+	@Test
+	void sharedParserIsThreadSafe() throws Exception {
+		TimestampParser parser = new TimestampParser("yyyy-MM-dd HH:mm:ss");
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+				int day = 1 + i % 28;
+				results.add(executor.submit(() -> {
+					long expected = LocalDateTime.of(2024, 2, day, 8, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+					return parser.parse(String.format("2024-02-%02d 08:00:00", day)) == expected;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package io.metersphere.plugin.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+	@Test
+	void concurrentMissesShareOneLoad() throws Exception {
+		TtlCache<String, String> cache = new TtlCache<>(TimeUnit.MINUTES.toMillis(1));
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.get("key", () -> {
+					loads.incrementAndGet();
+					loading.countDown();
+					await(release);
+					return "value";
+				})));
+			}
+			assertTrue(loading.await(5, TimeUnit.SECONDS));
+			// 等待其余线程进入等待同一次加载
+			Thread.sleep(100);
+			release.countDown();
+			for (Future<String> result : results) {
+				assertEquals("value", result.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, loads.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void failedLoadIsSharedButNotCached() throws Exception {
+		TtlCache<String, String> cache = new TtlCache<>(TimeUnit.MINUTES.toMillis(1));
+		IllegalStateException failure = new IllegalStateException("load failed");
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Callable<String> task = () -> cache.get("key", () -> {
+				loads.incrementAndGet();
+				loading.countDown();
+				await(release);
+				throw failure;
+			});
+			Future<String> first = executor.submit(task);
+			assertTrue(loading.await(5, TimeUnit.SECONDS));
+			Future<String> second = executor.submit(task);
+			Thread.sleep(100);
+			release.countDown();
+			assertSame(failure, assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+			assertSame(failure, assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+			assertEquals(1, loads.get());
+		} finally {
+			executor.shutdownNow();
+		}
+		assertNull(cache.getIfPresent("key"));
+		assertEquals("retry", cache.get("key", () -> "retry"));
+	}
+
+	@Test
+	void errorIsRethrownUnwrapped() {
+		TtlCache<String, String> cache = new TtlCache<>(TimeUnit.MINUTES.toMillis(1));
+		StackOverflowError failure = new StackOverflowError();
+		assertSame(failure, assertThrows(StackOverflowError.class, () -> cache.get("key", () -> {
+			throw failure;
+		})));
+	}
+
+	@Test
+	void expiredEntryIsReloadedWithPreviousValue() throws Exception {
+		TtlCache<String, Integer> cache = new TtlCache<>(200);
+		assertEquals(1, cache.getOrReload("key", previous -> previous == null ? 1 : previous + 1));
+		assertEquals(1, cache.getOrReload("key", previous -> previous == null ? 1 : previous + 1));
+		Thread.sleep(300);
+		assertNull(cache.getIfPresent("key"));
+		assertEquals(2, cache.getOrReload("key", previous -> previous == null ? 1 : previous + 1));
+	}
+
+	@Test
+	void expiredEntriesOfOtherKeysAreSwept() throws Exception {
+		TtlCache<String, String> cache = new TtlCache<>(200);
+		for (int i = 0; i < 10; i++) {
+			cache.get("key-" + i, () -> "value");
+		}
+		assertEquals(10, cache.size());
+		Thread.sleep(300);
+		cache.get("other", () -> "value");
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void loaderDoesNotSeeOwnKeyAsPresentWhileLoading() {
+		TtlCache<String, String> cache = new TtlCache<>(TimeUnit.MINUTES.toMillis(1));
+		AtomicReference<String> seen = new AtomicReference<>("unset");
+		cache.get("key", () -> {
+			seen.set(cache.getIfPresent("key"));
+			return "value";
+		});
+		assertNull(seen.get());
+		assertEquals("value", cache.getIfPresent("key"));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -1,10 +1,12 @@
 package io.metersphere.plugin.zentao.client;
 
+import io.metersphere.plugin.common.utils.RangeFileDownloader;
 import io.metersphere.plugin.platform.dto.SelectOption;
 import io.metersphere.plugin.platform.spi.BaseClient;
 import io.metersphere.plugin.sdk.util.MSPluginException;
 import io.metersphere.plugin.sdk.util.PluginLogUtils;
 import io.metersphere.plugin.sdk.util.PluginUtils;
+import io.metersphere.plugin.zentao.constants.ZentaoPluginConfig;
 import io.metersphere.plugin.zentao.domain.ZentaoIntegrationConfig;
 import io.metersphere.plugin.zentao.domain.ZentaoJsonApiUrl;
 import io.metersphere.plugin.zentao.domain.response.json.ZentaoAddBugResponse;
@@ -22,6 +24,7 @@ import org.springframework.web.client.RequestCallback;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -335,6 +338,19 @@ public abstract class ZentaoClient extends BaseClient {
 				}, fileId, sessionId);
 	}
 
+	/**
+	 * 下载附件到文件, 中断后断点续传
+	 *
+	 * @param fileId 文件ID
+	 * @param target 目标文件
+	 * @return 文件大小
+	 */
+	public long downloadAttachment(String fileId, Path target) {
+		String sessionId = auth();
+		return RangeFileDownloader.download(restTemplate, requestUrl.getFileDownload(), new HttpHeaders(), target,
+				ZentaoPluginConfig.ATTACHMENT_DOWNLOAD_MAX_ATTEMPTS, fileId, sessionId);
+	}
+
 	/**
 	 * 获取项目下缺陷集合
 	 *
@@ -286,6 +286,15 @@ public class ZentaoRestClient extends BaseClient {
 		return ENDPOINT + END_SUFFIX;
 	}
 
+	/**
+	 * 获取集成账号
+	 *
+	 * @return 账号
+	 */
+	public String getAccount() {
+		return USER_NAME;
+	}
+
 	/**
 	 * 获取Restful请求地址
 	 *
@@ -0,0 +1,34 @@
+package io.metersphere.plugin.zentao.constants;
+
+/**
+ * 插件可调参数, 均可通过 JVM 系统属性覆盖 (例: -Dmetersphere.zentao.task.threads=16)
+ */
+public class ZentaoPluginConfig {
+
+	private static final String PREFIX = "metersphere.zentao.";
+
+	/**
+	 * 后台任务(状态流转)线程数
+	 */
+	public static final int TASK_THREADS = Integer.getInteger(PREFIX + "task.threads", 8);
+	/**
+	 * 后台任务队列长度, 队列满时拒绝提交
+	 */
+	public static final int TASK_QUEUE_CAPACITY = Integer.getInteger(PREFIX + "task.queue-capacity", 200);
+	/**
+	 * 单个后台任务超时时间(秒), 超时后中断任务
+	 */
+	public static final int TASK_TIMEOUT_SECONDS = Integer.getInteger(PREFIX + "task.timeout-seconds", 300);
+	/**
+	 * 插件停止时等待后台任务完成的时间(秒)
+	 */
+	public static final int TASK_SHUTDOWN_WAIT_SECONDS = Integer.getInteger(PREFIX + "task.shutdown-wait-seconds", 30);
+	/**
+	 * 附件下载到文件时的最大尝试次数, 中断后通过 Range 请求断点续传
+	 */
+	public static final int ATTACHMENT_DOWNLOAD_MAX_ATTEMPTS = Integer.getInteger(PREFIX + "attachment.download-max-attempts", 3);
+	/**
+	 * 需求列表缓存时间(秒), 缓存刷新后增量更新需求搜索索引
+	 */
+	public static final int DEMAND_CACHE_TTL_SECONDS = Integer.getInteger(PREFIX + "demand.cache-ttl-seconds", 60);
+}
@@ -1,5 +1,9 @@
 package io.metersphere.plugin.zentao.impl;
 
+import io.metersphere.plugin.common.utils.BackgroundTaskExecutor;
+import io.metersphere.plugin.common.utils.DemandSearchIndex;
+import io.metersphere.plugin.common.utils.TimestampParser;
+import io.metersphere.plugin.common.utils.TtlCache;
 import io.metersphere.plugin.platform.dto.PlatformAttachment;
 import io.metersphere.plugin.platform.dto.SelectOption;
 import io.metersphere.plugin.platform.dto.SyncBugResult;
@@ -20,6 +24,7 @@ import io.metersphere.plugin.zentao.client.ZentaoClient;
 import io.metersphere.plugin.zentao.client.ZentaoFactory;
 import io.metersphere.plugin.zentao.client.ZentaoRestClient;
 import io.metersphere.plugin.zentao.constants.ZentaoDemandCustomField;
+import io.metersphere.plugin.zentao.constants.ZentaoPluginConfig;
 import io.metersphere.plugin.zentao.domain.ZentaoIntegrationConfig;
 import io.metersphere.plugin.zentao.domain.ZentaoPlatformUserInfo;
 import io.metersphere.plugin.zentao.domain.ZentaoProjectConfig;
@@ -27,16 +32,19 @@ import io.metersphere.plugin.zentao.domain.request.rest.ZentaoRestBugEditRequest
 import io.metersphere.plugin.zentao.domain.response.json.ZentaoBugResponse;
 import io.metersphere.plugin.zentao.domain.response.rest.*;
 import io.metersphere.plugin.zentao.enums.ZentaoBugPlatformStatus;
-import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.pf4j.Extension;
 import org.springframework.util.CollectionUtils;
 
 import java.io.File;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
-import java.text.SimpleDateFormat;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -54,10 +62,23 @@ public class ZentaoPlatform extends AbstractPlatform {
 
 	protected ZentaoProjectConfig projectConfig;
 
-	protected SimpleDateFormat sdfDateTime = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-
 	protected static final String DATE_PREFIX = "0000-00-00";
 
+	/**
+	 * 缺陷创建/更新时间解析
+	 */
+	private static final TimestampParser BUG_TIME_PARSER = new TimestampParser("yyyy-MM-dd HH:mm:ss");
+
+	/**
+	 * 需求列表及搜索索引缓存, Key: 禅道地址|账号|产品或项目Key|类型; 过期后重新拉取需求列表并增量更新原索引
+	 */
+	private static final TtlCache<String, DemandCache> DEMAND_CACHE = new TtlCache<>(TimeUnit.SECONDS.toMillis(ZentaoPluginConfig.DEMAND_CACHE_TTL_SECONDS));
+
+	/**
+	 * 下拉选项方法表 (方法名 -> public List xxx(GetOptionRequest)), 只允许列出的方法; 类加载时解析, 方法缺失时直接失败
+	 */
+	private static final Map<String, MethodHandle> OPTION_METHODS = resolveOptionMethods(List.of("getAssignUsers"));
+
 	protected static final String MS_RICH_TEXT_PREVIEW_SRC_PREFIX = "/bug/attachment/preview/md";
 
 	protected static final String ZENTAO_RICH_TEXT_IMG_SRC_PREFIX = "/file-read-";
@@ -189,20 +210,43 @@ public class ZentaoPlatform extends AbstractPlatform {
 	 */
 	@Override
 	public List<SelectOption> getFormOptions(GetOptionRequest request) {
-		String method = request.getOptionMethod();
+		// 不可变Map查询null会抛出空指针
+		MethodHandle optionMethod = request.getOptionMethod() == null ? null : OPTION_METHODS.get(request.getOptionMethod());
+		if (optionMethod == null) {
+			PluginLogUtils.info("unsupported option method: " + request.getOptionMethod());
+			throw new MSPluginException("unsupported option method: " + request.getOptionMethod());
+		}
 		try {
-			// get form option by reflection
 			// noinspection unchecked
-			return (List<SelectOption>) this.getClass().getMethod(method, request.getClass()).invoke(this, request);
-		} catch (InvocationTargetException e) {
-			PluginLogUtils.error(e.getTargetException());
-			throw new MSPluginException(e.getTargetException());
-		} catch (Exception e) {
+			return (List<SelectOption>) optionMethod.invokeExact((Object) this, request);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			PluginLogUtils.error(e);
 			throw new MSPluginException(e);
 		}
 	}
 
+	/**
+	 * 解析下拉选项方法
+	 *
+	 * @param methodNames 允许调用的方法名
+	 * @return 方法名 -> 方法句柄
+	 */
+	private static Map<String, MethodHandle> resolveOptionMethods(List<String> methodNames) {
+		Map<String, MethodHandle> optionMethods = new HashMap<>();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		for (String methodName : methodNames) {
+			try {
+				optionMethods.put(methodName, lookup.findVirtual(ZentaoPlatform.class, methodName, MethodType.methodType(List.class, GetOptionRequest.class))
+						.asType(MethodType.methodType(List.class, Object.class, GetOptionRequest.class)));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				throw new MSPluginException("option method not found: " + methodName, e);
+			}
+		}
+		return Map.copyOf(optionMethods);
+	}
+
 	/**
 	 * 获取状态下拉转换
 	 *
@@ -231,23 +275,23 @@ public class ZentaoPlatform extends AbstractPlatform {
 	 */
 	@Override
 	public PluginPager<PlatformDemandDTO> pageDemand(DemandPageRequest request) {
-		List<PlatformDemandDTO.Demand> demands = queryDemandList(request, null);
-		int total = demands.size();
 		if (request.isSelectAll()) {
 			// no pager
+			DemandSearchIndex.SearchResult<PlatformDemandDTO.Demand> result = queryDemandList(request, null, 0, Integer.MAX_VALUE);
 			// set demand response
 			PlatformDemandDTO demandRelatePageData = new PlatformDemandDTO();
-			demandRelatePageData.setList(demands);
+			demandRelatePageData.setList(result.list());
 			demandRelatePageData.setCustomHeaders(getDemandCustomField());
-			return new PluginPager<>(demandRelatePageData, total, Integer.MAX_VALUE, request.getStartPage());
+			return new PluginPager<>(demandRelatePageData, result.total(), Integer.MAX_VALUE, request.getStartPage());
 		} else {
 			// pager
-			demands = demands.stream().skip((long) (request.getStartPage() - 1) * request.getPageSize()).limit(request.getPageSize()).collect(Collectors.toList());
+			DemandSearchIndex.SearchResult<PlatformDemandDTO.Demand> result = queryDemandList(request, null,
+					(request.getStartPage() - 1) * request.getPageSize(), request.getPageSize());
 			// set demand response
 			PlatformDemandDTO demandRelatePageData = new PlatformDemandDTO();
-			demandRelatePageData.setList(demands);
+			demandRelatePageData.setList(result.list());
 			demandRelatePageData.setCustomHeaders(getDemandCustomField());
-			return new PluginPager<>(demandRelatePageData, total, request.getPageSize(), request.getStartPage());
+			return new PluginPager<>(demandRelatePageData, result.total(), request.getPageSize(), request.getStartPage());
 		}
 	}
 
@@ -261,7 +305,7 @@ public class ZentaoPlatform extends AbstractPlatform {
 	public PlatformDemandDTO getDemands(DemandRelateQueryRequest request) {
 		DemandPageRequest requestParam = new DemandPageRequest();
 		requestParam.setProjectConfig(request.getProjectConfig());
-		List<PlatformDemandDTO.Demand> demands = queryDemandList(requestParam, request.getRelateDemandIds());
+		List<PlatformDemandDTO.Demand> demands = queryDemandList(requestParam, request.getRelateDemandIds(), 0, Integer.MAX_VALUE).list();
 		// set demand response
 		PlatformDemandDTO demandRelatePageData = new PlatformDemandDTO();
 		demandRelatePageData.setList(demands);
@@ -298,10 +342,15 @@ public class ZentaoPlatform extends AbstractPlatform {
 			throw new MSPluginException("创建禅道缺陷失败!");
 		}
 
-		new Thread(() -> {
-			// transition zentao bug status
-			transitionStatus(statusField, zentaoBug.getId(), editRequest.getAssignedTo());
-		}).start();
+		try {
+			BackgroundTaskExecutor.submit("zentao addBug " + zentaoBug.getId(), () -> {
+				// transition zentao bug status
+				transitionStatus(statusField, zentaoBug.getId(), editRequest.getAssignedTo());
+			});
+		} catch (RejectedExecutionException e) {
+			// 缺陷已创建, 不能因状态流转未执行而报错, 记录后由用户修改状态
+			PluginLogUtils.error("zentao bug " + zentaoBug.getId() + " status transition rejected", e);
+		}
 
 		return platformBug;
 	}
@@ -329,9 +378,14 @@ public class ZentaoPlatform extends AbstractPlatform {
 		// transition zentao bug status
 		platformBug.setPlatformStatus(statusField.getValue().toString());
 
-		new Thread(() -> {
-			transitionStatus(statusField, zentaoBug.getId(), editParam.getAssignedTo());
-		}).start();
+		try {
+			BackgroundTaskExecutor.submit("zentao updateBug " + zentaoBug.getId(), () -> {
+				transitionStatus(statusField, zentaoBug.getId(), editParam.getAssignedTo());
+			});
+		} catch (RejectedExecutionException e) {
+			// 缺陷已更新, 不能因状态流转未执行而报错, 记录后由用户再次修改状态
+			PluginLogUtils.error("zentao bug " + zentaoBug.getId() + " status transition rejected", e);
+		}
 		return platformBug;
 	}
 
@@ -395,11 +449,13 @@ public class ZentaoPlatform extends AbstractPlatform {
 	@Override
 	public SyncBugResult syncBugs(SyncBugRequest request) {
 		SyncBugResult syncResult = new SyncBugResult();
+		// 同一模板的缺陷共用字段列表, 每个模板只构建一次字段原型
+		Map<List<PlatformCustomFieldItemDTO>, List<PlatformCustomFieldItemDTO>> templateFieldsMap = new IdentityHashMap<>();
 		List<PlatformBugDTO> bugs = request.getBugs();
 		bugs.forEach(bug -> {
 			Map<String, Object> zenBugInfo = zentaoClient.getBugById(bug.getPlatformBugId());
 			if (!StringUtils.equals(zenBugInfo.get("deleted").toString(), "1")) {
-				syncZentaoFieldToMsBug(bug, zenBugInfo, false);
+				syncZentaoFieldToMsBug(bug, zenBugInfo, templateFieldsMap.computeIfAbsent(bug.getNeedSyncCustomFields(), this::buildSyncTemplateFields));
 				parseAttachmentOrBuildToMsBug(syncResult, bug);
 				syncResult.getUpdateBug().add(bug);
 			} else {
@@ -442,7 +498,7 @@ public class ZentaoPlatform extends AbstractPlatform {
 						PlatformBugDTO bug = new PlatformBugDTO();
 						bug.setId(UUID.randomUUID().toString());
 						bug.setPlatformBugId(zenBugInfo.get("id").toString());
-						syncZentaoFieldToMsBug(bug, zenBugInfo, true);
+						syncZentaoFieldToMsBug(bug, zenBugInfo, null);
 						// handle attachment
 						parseAttachmentOrBuildToMsBug(syncBugResult, bug);
 						needSyncBugs.add(bug);
@@ -482,86 +538,159 @@ public class ZentaoPlatform extends AbstractPlatform {
 		zentaoClient.getAttachmentBytes(fileKey, inputStreamHandler);
 	}
 
+	/**
+	 * 下载附件到文件 (大附件断点续传)
+	 *
+	 * @param fileKey 附件ID
+	 * @param target  目标文件
+	 * @return 文件大小
+	 */
+	public long downloadAttachment(String fileKey, Path target) {
+		return zentaoClient.downloadAttachment(fileKey, target);
+	}
+
 	/**
 	 * 查询需求列表
+	 * <p>
+	 * 需求列表缓存一段时间, 直接从父需求索引分页: 父需求匹配关键字, 或者有子需求匹配关键字时展示; 只构建当前页的需求.
 	 *
 	 * @param request   需求请求参数
 	 * @param filterIds 过滤的需求ID
-	 * @return 需求列表
+	 * @param offset    开始位置
+	 * @param limit     返回数量
+	 * @return 需求列表及总数
 	 */
-	private List<PlatformDemandDTO.Demand> queryDemandList(DemandPageRequest request, List<String> filterIds) {
+	private DemandSearchIndex.SearchResult<PlatformDemandDTO.Demand> queryDemandList(DemandPageRequest request, List<String> filterIds, int offset, int limit) {
 		// validate demand config
 		projectConfig = getProjectConfig(request.getProjectConfig());
 		validateProjectKey();
-		// query demand list no limit
-		ZentaoRestDemandResponse response = zentaoRestClient.pageDemands(projectConfig.getZentaoKey(), projectConfig.getType(), request.getStartPage(), Integer.MAX_VALUE);
-		// handle empty data
-		if (response == null || CollectionUtils.isEmpty(response.getStories())) {
-			return List.of();
+		// 不同账号可见的需求不同, 缓存Key包含账号
+		String demandCacheKey = String.join("|", zentaoRestClient.getBaseUrl(), StringUtils.defaultString(zentaoRestClient.getAccount()),
+				projectConfig.getZentaoKey(), projectConfig.getType());
+		DemandCache demandCache = DEMAND_CACHE.getOrReload(demandCacheKey, this::loadDemandCache);
+		// 满足关键字的子需求ID (按父需求分组), 没有关键字时为空, 不过滤子需求
+		Map<String, Set<String>> matchedChildIds = null;
+		if (StringUtils.isNotBlank(request.getQuery())) {
+			matchedChildIds = demandCache.childIndex().search(request.getQuery()).stream()
+					.collect(Collectors.groupingBy(child -> demandCache.parentIds().get(child.getId()),
+							Collectors.mapping(ZentaoRestDemandResponse.Story::getId, Collectors.toSet())));
 		}
+		Set<String> filterIdSet = CollectionUtils.isEmpty(filterIds) ? null : new HashSet<>(filterIds);
+		Set<String> excludeIdSet = CollectionUtils.isEmpty(request.getExcludeIds()) || !request.isSelectAll() ? null : new HashSet<>(request.getExcludeIds());
+		DemandSearchIndex.SearchResult<ZentaoRestDemandResponse.Story> result = demandCache.index().search(request.getQuery(),
+				matchedChildIds == null ? null : matchedChildIds.keySet(),
+				story -> matchDemandFilter(request, story) && (filterIdSet == null || filterIdSet.contains(story.getId()))
+						&& (excludeIdSet == null || !excludeIdSet.contains(story.getId())), offset, limit);
 
-		// prepare demand list
 		List<PlatformDemandDTO.Demand> demands = new ArrayList<>();
-		response.getStories().forEach(story -> {
-			PlatformDemandDTO.Demand demand = new PlatformDemandDTO.Demand();
-			demand.setDemandId(story.getId());
-			demand.setDemandName(story.getTitle());
-			demand.setDemandUrl(zentaoRestClient.getBaseUrl() + "story-view-" + story.getId() + ".html");
-			// add plan to custom fields
-			demand.getCustomFields().put(ZentaoDemandCustomField.PLAN_FIELD_ID, story.getPlan());
-			boolean isParentDemandShow = StringUtils.isBlank(request.getQuery()) || demand.getDemandName().contains(request.getQuery()) || demand.getDemandId().contains(request.getQuery());
+		for (ZentaoRestDemandResponse.Story story : result.list()) {
+			List<ZentaoRestDemandResponse.Story> children = null;
 			if (!CollectionUtils.isEmpty(story.getChildren())) {
-				List<PlatformDemandDTO.Demand> childrenDemands = new ArrayList<>();
-				// handle children demand list
-				story.getChildren().forEach(childStory -> {
-					PlatformDemandDTO.Demand childDemand = new PlatformDemandDTO.Demand();
-					childDemand.setDemandId(childStory.getId());
-					childDemand.setDemandName(childStory.getTitle());
-					childDemand.setDemandUrl(zentaoRestClient.getBaseUrl() + "story-view-" + childStory.getId() + ".html");
-					childDemand.setParent(demand.getDemandId());
-					// add plan to custom fields
-					childDemand.getCustomFields().put(ZentaoDemandCustomField.PLAN_FIELD_ID, childStory.getPlan());
-					boolean isChildDemandShow = StringUtils.isBlank(request.getQuery()) || childDemand.getDemandName().contains(request.getQuery()) || childDemand.getDemandId().contains(request.getQuery());
-					if (isChildDemandShow) {
-						// 满足过滤条件的子需求, 才展示
-						childrenDemands.add(childDemand);
-					}
-				});
-				demand.setChildren(childrenDemands);
-			}
-			if (isParentDemandShow || !CollectionUtils.isEmpty(demand.getChildren())) {
-				// 满足过滤条件的父需求, 或者有满足过滤条件的子需求, 才展示
-				demands.add(demand);
+				// 满足过滤条件的子需求, 才展示
+				Set<String> storyMatchedChildIds = matchedChildIds == null ? null : matchedChildIds.getOrDefault(story.getId(), Set.of());
+				children = story.getChildren().stream().filter(child -> storyMatchedChildIds == null || storyMatchedChildIds.contains(child.getId())).toList();
 			}
-		});
-		// sort by demand id
-		demands.sort(Comparator.comparing(PlatformDemandDTO.Demand::getDemandId));
-		// filter by condition
-		List<PlatformDemandDTO.Demand> filterDemands = demands;
-		if (!CollectionUtils.isEmpty(request.getFilter())) {
-			filterDemands = filterDemands.stream().filter(demand -> {
-				boolean pass = true;
-				for (String key : request.getFilter().keySet()) {
-					if (demand.getCustomFields().get(key) == null) {
-						pass = false;
-						break;
-					}
-					if (!CollectionUtils.isEmpty(request.getFilter().get(key)) && !request.getFilter().get(key).contains(demand.getCustomFields().get(key).toString())) {
-						pass = false;
-						break;
-					}
-				}
-				return pass;
-			}).collect(Collectors.toList());
+			demands.add(buildDemand(story, children));
 		}
-		// filter by ids
-		if (!CollectionUtils.isEmpty(filterIds)) {
-			filterDemands = filterDemands.stream().filter(demand -> filterIds.contains(demand.getDemandId())).collect(Collectors.toList());
+		return new DemandSearchIndex.SearchResult<>(demands, result.total());
+	}
+
+	/**
+	 * 加载需求列表, 并更新父需求及子需求的搜索索引
+	 *
+	 * @param previous 已过期的需求缓存, 其索引增量更新后复用; 没有时为null
+	 * @return 需求缓存
+	 */
+	private DemandCache loadDemandCache(DemandCache previous) {
+		DemandSearchIndex<ZentaoRestDemandResponse.Story> index = previous != null ? previous.index() :
+				new DemandSearchIndex<>(ZentaoRestDemandResponse.Story::getId, ZentaoRestDemandResponse.Story::getTitle, false);
+		DemandSearchIndex<ZentaoRestDemandResponse.Story> childIndex = previous != null ? previous.childIndex() :
+				new DemandSearchIndex<>(ZentaoRestDemandResponse.Story::getId, ZentaoRestDemandResponse.Story::getTitle, false);
+		// query demand list no limit
+		ZentaoRestDemandResponse response = zentaoRestClient.pageDemands(projectConfig.getZentaoKey(), projectConfig.getType(), 1, Integer.MAX_VALUE);
+		// handle empty data
+		if (response == null || CollectionUtils.isEmpty(response.getStories())) {
+			index.refresh(List.of());
+			childIndex.refresh(List.of());
+			return new DemandCache(index, childIndex, Map.of());
+		}
+		List<ZentaoRestDemandResponse.Story> children = new ArrayList<>();
+		Map<String, String> parentIds = new HashMap<>();
+		response.getStories().stream().filter(story -> !CollectionUtils.isEmpty(story.getChildren())).forEach(story -> story.getChildren().forEach(child -> {
+			children.add(child);
+			parentIds.put(child.getId(), story.getId());
+		}));
+		// 索引按需求ID排序
+		index.refresh(response.getStories());
+		childIndex.refresh(children);
+		return new DemandCache(index, childIndex, parentIds);
+	}
+
+	/**
+	 * 构建平台需求
+	 *
+	 * @param story    禅道需求
+	 * @param children 展示的子需求, 没有子需求时为空
+	 * @return 平台需求
+	 */
+	private PlatformDemandDTO.Demand buildDemand(ZentaoRestDemandResponse.Story story, List<ZentaoRestDemandResponse.Story> children) {
+		PlatformDemandDTO.Demand demand = new PlatformDemandDTO.Demand();
+		demand.setDemandId(story.getId());
+		demand.setDemandName(story.getTitle());
+		demand.setDemandUrl(zentaoRestClient.getBaseUrl() + "story-view-" + story.getId() + ".html");
+		// add plan to custom fields
+		demand.getCustomFields().put(ZentaoDemandCustomField.PLAN_FIELD_ID, story.getPlan());
+		if (children != null) {
+			List<PlatformDemandDTO.Demand> childrenDemands = new ArrayList<>();
+			// handle children demand list
+			children.forEach(childStory -> {
+				PlatformDemandDTO.Demand childDemand = new PlatformDemandDTO.Demand();
+				childDemand.setDemandId(childStory.getId());
+				childDemand.setDemandName(childStory.getTitle());
+				childDemand.setDemandUrl(zentaoRestClient.getBaseUrl() + "story-view-" + childStory.getId() + ".html");
+				childDemand.setParent(demand.getDemandId());
+				// add plan to custom fields
+				childDemand.getCustomFields().put(ZentaoDemandCustomField.PLAN_FIELD_ID, childStory.getPlan());
+				childrenDemands.add(childDemand);
+			});
+			demand.setChildren(childrenDemands);
 		}
-		if (!CollectionUtils.isEmpty(request.getExcludeIds()) && request.isSelectAll()) {
-			filterDemands = filterDemands.stream().filter(demand -> !request.getExcludeIds().contains(demand.getDemandId())).collect(Collectors.toList());
+		return demand;
+	}
+
+	/**
+	 * 需求是否满足自定义字段过滤条件
+	 *
+	 * @param request 需求请求参数
+	 * @param story   禅道需求
+	 * @return 是否满足
+	 */
+	private boolean matchDemandFilter(DemandPageRequest request, ZentaoRestDemandResponse.Story story) {
+		if (CollectionUtils.isEmpty(request.getFilter())) {
+			return true;
+		}
+		Map<String, Object> customFields = new HashMap<>();
+		customFields.put(ZentaoDemandCustomField.PLAN_FIELD_ID, story.getPlan());
+		for (String key : request.getFilter().keySet()) {
+			if (customFields.get(key) == null) {
+				return false;
+			}
+			if (!CollectionUtils.isEmpty(request.getFilter().get(key)) && !request.getFilter().get(key).contains(customFields.get(key).toString())) {
+				return false;
+			}
 		}
-		return filterDemands;
+		return true;
+	}
+
+	/**
+	 * 需求缓存
+	 *
+	 * @param index      父需求的搜索索引
+	 * @param childIndex 子需求的搜索索引
+	 * @param parentIds  子需求所属的父需求ID, Key: 子需求ID
+	 */
+	private record DemandCache(DemandSearchIndex<ZentaoRestDemandResponse.Story> index, DemandSearchIndex<ZentaoRestDemandResponse.Story> childIndex,
+							   Map<String, String> parentIds) {
 	}
 
 	/**
@@ -632,15 +761,16 @@ public class ZentaoPlatform extends AbstractPlatform {
 	/**
 	 * 同步禅道平台字段到MS缺陷
 	 *
-	 * @param msBug      平台缺陷
-	 * @param zenBugInfo 禅道缺陷
+	 * @param msBug          平台缺陷
+	 * @param zenBugInfo     禅道缺陷
+	 * @param templateFields 缺陷模板的字段原型集合, 为空时同步所有字段(全量同步)
 	 */
-	private void syncZentaoFieldToMsBug(PlatformBugDTO msBug, Map<String, Object> zenBugInfo, boolean useCustomAllFields) {
+	private void syncZentaoFieldToMsBug(PlatformBugDTO msBug, Map<String, Object> zenBugInfo, List<PlatformCustomFieldItemDTO> templateFields) {
 		try {
 			// 处理基础字段
 			parseBaseFieldToMsBug(msBug, zenBugInfo);
 			// 处理自定义字段
-			parseCustomFieldToMsBug(msBug, zenBugInfo, useCustomAllFields);
+			parseCustomFieldToMsBug(msBug, zenBugInfo, templateFields);
 		} catch (Exception e) {
 			PluginLogUtils.error(e);
 		}
@@ -672,12 +802,12 @@ public class ZentaoPlatform extends AbstractPlatform {
 			String openedDate = zenBugInfo.get("openedDate").toString();
 			String lastEditedDate = zenBugInfo.get("lastEditedDate").toString();
 			if (StringUtils.isNotBlank(openedDate) && !openedDate.startsWith(DATE_PREFIX)) {
-				msBug.setCreateTime(sdfDateTime.parse(openedDate).getTime());
+				msBug.setCreateTime(BUG_TIME_PARSER.parse(openedDate));
 			} else {
 				msBug.setCreateTime(System.currentTimeMillis());
 			}
 			if (StringUtils.isNotBlank(lastEditedDate) && !lastEditedDate.startsWith(DATE_PREFIX)) {
-				msBug.setUpdateTime(sdfDateTime.parse(openedDate).getTime());
+				msBug.setUpdateTime(BUG_TIME_PARSER.parse(openedDate));
 			} else {
 				msBug.setUpdateTime(System.currentTimeMillis());
 			}
@@ -689,12 +819,13 @@ public class ZentaoPlatform extends AbstractPlatform {
 	/**
 	 * 解析自定义字段到平台缺陷字段
 	 *
-	 * @param msBug  平台缺陷
-	 * @param zenBug 禅道字段集合
+	 * @param msBug          平台缺陷
+	 * @param zenBug         禅道字段集合
+	 * @param templateFields 缺陷模板的字段原型集合, 为空时同步所有字段(全量同步)
 	 */
-	private void parseCustomFieldToMsBug(PlatformBugDTO msBug, Map<String, Object> zenBug, boolean useCustomAllFields) {
+	private void parseCustomFieldToMsBug(PlatformBugDTO msBug, Map<String, Object> zenBug, List<PlatformCustomFieldItemDTO> templateFields) {
 		List<PlatformCustomFieldItemDTO> needSyncCustomFields = new ArrayList<>();
-		if (useCustomAllFields) {
+		if (templateFields == null) {
 			// 同步全量的时候, 需要同步所有自定义字段
 			zenBug.keySet().forEach(fieldKey -> {
 				PlatformCustomFieldItemDTO field = new PlatformCustomFieldItemDTO();
@@ -704,8 +835,8 @@ public class ZentaoPlatform extends AbstractPlatform {
 			});
 		} else {
 			// 同步存量缺陷时, 只需同步MS配置的API自定义字段
-			for (PlatformCustomFieldItemDTO field : msBug.getNeedSyncCustomFields()) {
-				needSyncCustomFields.add(SerializationUtils.clone(field));
+			for (PlatformCustomFieldItemDTO field : templateFields) {
+				needSyncCustomFields.add(copyCustomField(field));
 			}
 			if (CollectionUtils.isEmpty(needSyncCustomFields)) {
 				return;
@@ -740,6 +871,35 @@ public class ZentaoPlatform extends AbstractPlatform {
 		msBug.setCustomFieldList(needSyncCustomFields);
 	}
 
+	/**
+	 * 构建同步用的模板字段原型 (只保留同步用到的属性)
+	 *
+	 * @param fields 模板字段
+	 * @return 字段原型集合
+	 */
+	private List<PlatformCustomFieldItemDTO> buildSyncTemplateFields(List<PlatformCustomFieldItemDTO> fields) {
+		if (CollectionUtils.isEmpty(fields)) {
+			return List.of();
+		}
+		return fields.stream().map(this::copyCustomField).toList();
+	}
+
+	/**
+	 * 复制模板字段 (同步时只改写字段值, 只复制不变的字段属性及字段值)
+	 *
+	 * @param field 模板字段
+	 * @return 字段副本
+	 */
+	private PlatformCustomFieldItemDTO copyCustomField(PlatformCustomFieldItemDTO field) {
+		PlatformCustomFieldItemDTO copyField = new PlatformCustomFieldItemDTO();
+		copyField.setId(field.getId());
+		copyField.setName(field.getName());
+		copyField.setCustomData(field.getCustomData());
+		copyField.setType(field.getType());
+		copyField.setValue(field.getValue());
+		return copyField;
+	}
+
 	/**
 	 * 获取同步的JSON值
 	 *
@@ -798,7 +958,9 @@ public class ZentaoPlatform extends AbstractPlatform {
 			Map<String, Object> bugMap = (Map<String, Object>) bug;
 			long createTimeMills;
 			try {
-				createTimeMills = sdfDateTime.parse(bugMap.get("openedDate").toString()).getTime();
+				String openedDate = bugMap.get("openedDate").toString();
+				// 空日期(0000-00-00)视为最早的时间, 与原 SimpleDateFormat 宽松解析为负时间戳的结果一致
+				createTimeMills = openedDate.startsWith(DATE_PREFIX) ? Long.MIN_VALUE : BUG_TIME_PARSER.parse(openedDate);
 				if (request.getPre()) {
 					return createTimeMills <= request.getCreateTime();
 				} else {
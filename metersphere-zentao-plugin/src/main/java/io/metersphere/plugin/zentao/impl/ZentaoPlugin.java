@@ -1,6 +1,8 @@
 package io.metersphere.plugin.zentao.impl;
 
+import io.metersphere.plugin.common.utils.BackgroundTaskExecutor;
 import io.metersphere.plugin.platform.spi.AbstractPlatformPlugin;
+import io.metersphere.plugin.zentao.constants.ZentaoPluginConfig;
 
 public class ZentaoPlugin extends AbstractPlatformPlugin {
 
@@ -27,4 +29,18 @@ public class ZentaoPlugin extends AbstractPlatformPlugin {
 	public String getName() {
 		return ZENTAO_PLUGIN_NAME;
 	}
+
+	@Override
+	public void start() {
+		super.start();
+		BackgroundTaskExecutor.start("zentao", ZentaoPluginConfig.TASK_THREADS, ZentaoPluginConfig.TASK_QUEUE_CAPACITY,
+				ZentaoPluginConfig.TASK_TIMEOUT_SECONDS, ZentaoPluginConfig.TASK_SHUTDOWN_WAIT_SECONDS);
+	}
+
+	@Override
+	public void stop() {
+		// 等待后台任务执行完成
+		BackgroundTaskExecutor.shutdown();
+		super.stop();
+	}
 }